@@ -0,0 +1,54 @@
+package com.publicis.recipes.config;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.publicis.recipes.dto.SearchPage;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Fully built {@code RecipeDTO}s by recipe id, evicted whenever the loader rewrites recipes. */
+    public static final String RECIPES_CACHE = "recipes";
+
+    /** Search results keyed by {@link SearchCacheKeyGenerator}, bounded by the total number of cached hits. */
+    public static final String SEARCH_CACHE = "recipe-search";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.recipes.max-size:10000}") long recipesMaxSize,
+            @Value("${app.cache.recipes.ttl:30m}") Duration recipesTtl,
+            @Value("${app.cache.search.max-hits:20000}") long searchMaxHits,
+            @Value("${app.cache.search.ttl:10m}") Duration searchTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(RECIPES_CACHE, Caffeine.newBuilder()
+                .maximumSize(recipesMaxSize)
+                .expireAfterWrite(recipesTtl)
+                .recordStats()
+                .build());
+        // Caffeine's W-TinyLFU eviction keeps the popular queries; the weigher makes the bound track memory
+        cacheManager.registerCustomCache(SEARCH_CACHE, Caffeine.newBuilder()
+                .maximumWeight(searchMaxHits)
+                .weigher((Object key, Object value) -> weigh(value))
+                .expireAfterWrite(searchTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof SearchPage<?> page) {
+            return page.getItems().size() + 1;
+        }
+        return value instanceof Collection<?> hits ? hits.size() + 1 : 1;
+    }
+}
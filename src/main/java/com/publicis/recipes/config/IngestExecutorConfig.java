@@ -0,0 +1,51 @@
+package com.publicis.recipes.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class IngestExecutorConfig {
+
+    /**
+     * Executor for concurrent upstream page fetches. Virtual threads need a Java 21 runtime
+     * (see the {@code java21} Maven profile); on Java 17 a fixed pool is used instead.
+     */
+    @Bean
+    public AsyncTaskExecutor recipeFetchExecutor(
+            @Value("${app.ingest.fetch-concurrency:1}") int fetchConcurrency,
+            @Value("${app.ingest.virtual-threads:false}") boolean virtualThreads) {
+        int poolSize = Math.max(1, fetchConcurrency);
+
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("recipe-fetch-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("recipe-fetch-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Single thread running recipe loads off the request threads; {@code LoadJobService} makes sure
+     * at most one load is queued or running.
+     */
+    @Bean
+    public AsyncTaskExecutor recipeLoadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("recipe-load-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,22 @@
+package com.publicis.recipes.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.publicis.recipes.dto.RecipeDTO;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Serializes every property of the recipe DTOs unless a response narrows them with {@code fields=}.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer recipeFieldsFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(RecipeDTO.FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.publicis.recipes.config;
+
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Custom analyzers of the Lucene backend, registered through
+ * {@code hibernate.search.backend.analysis.configurer}.
+ */
+public class RecipeAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    /**
+     * Part of the index mapping fingerprint checked by {@code SearchIndexVerifier}: bump it whenever an
+     * analyzer definition below or one of its resource files changes, so a persisted index built with
+     * the old analysis is rebuilt.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * Reduces an ingredient line to the ingredient itself: "2 cups chopped Tomatoes" and "tomato"
+     * both index as {@code tomato}. Quantities are stripped before tokenizing, units and preparation
+     * words by a stop list, and plurals by the KStem stemmer (tomatoes, potatoes, cherries, eggs
+     * become tomato, potato, cherry, egg).
+     */
+    public static final String INGREDIENT_ANALYZER = "ingredient";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer(INGREDIENT_ANALYZER).custom()
+                .tokenizer("standard")
+                .charFilter("patternReplace")
+                        .param("pattern", "[0-9]+([.,/][0-9]+)?|[¼-¾⅐-⅞]")
+                        .param("replacement", " ")
+                .tokenFilter("lowercase")
+                .tokenFilter("asciiFolding")
+                .tokenFilter("stop")
+                        .param("words", "analysis/ingredient-stopwords.txt")
+                        .param("ignoreCase", "true")
+                .tokenFilter("kStem");
+    }
+}
@@ -1,14 +1,105 @@
 package com.publicis.recipes.config;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
 
+	@Value("${app.external.http.http2:false}")
+	private boolean http2 = false;
+
+	@Value("${app.external.http.max-connections:20}")
+	private int maxConnections = 20;
+
+	@Value("${app.external.http.max-connections-per-route:10}")
+	private int maxConnectionsPerRoute = 10;
+
+	@Value("${app.external.http.connect-timeout:5s}")
+	private Duration connectTimeout = Duration.ofSeconds(5);
+
+	@Value("${app.external.http.read-timeout:30s}")
+	private Duration readTimeout = Duration.ofSeconds(30);
+
+	@Value("${app.external.http.keep-alive:30s}")
+	private Duration keepAlive = Duration.ofSeconds(30);
+
+	@Value("${app.external.http.compression:true}")
+	private boolean compression = true;
+
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory upstreamRequestFactory) {
+        RestTemplate restTemplate = new RestTemplate(upstreamRequestFactory);
+        if (http2 && compression) {
+            restTemplate.getInterceptors().add(new GzipDecodingInterceptor());
+        }
+        return restTemplate;
+    }
+
+    /**
+     * Request factory for the upstream recipes API. By default a pooled Apache HttpClient: connections
+     * are kept alive for {@code keep-alive} and reused across pages, and gzip responses are decoded by
+     * the client itself. With {@code http2=true} the JDK client is used instead, which multiplexes
+     * concurrent page fetches over one HTTP/2 connection (falling back to HTTP/1.1 if the server does
+     * not negotiate it); its pool is managed by the JDK ({@code jdk.httpclient.keepalive.timeout}).
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ClientHttpRequestFactory upstreamRequestFactory() {
+        if (http2) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(connectTimeout)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+            requestFactory.setReadTimeout(readTimeout);
+            return requestFactory;
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(keepAlive))
+                        // Cheap staleness check before reusing a connection idle for more than a second
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(1))
+                        .build())
+                .build();
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // Waiting for a pooled connection is bounded like opening a new one
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        // Used when the server does not send a Keep-Alive header
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive));
+        if (!compression) {
+            builder.disableContentCompression();
+        }
+        CloseableHttpClient httpClient = builder.build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
     }
-}
\ No newline at end of file
+}
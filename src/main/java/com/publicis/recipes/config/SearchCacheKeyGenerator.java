@@ -0,0 +1,69 @@
+package com.publicis.recipes.config;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+
+import com.publicis.recipes.dto.IngredientSearchRequest;
+import com.publicis.recipes.dto.RecipeSearchRequest;
+import com.publicis.recipes.service.CatalogVersion;
+
+/**
+ * Cache key for search results: catalog generation + search variant (method name) + normalized
+ * arguments. "  Pizza " and "pizza" share an entry, as do ingredient lists that differ only in case,
+ * whitespace, blank entries or order, and entries written for an older catalog generation can never be
+ * hit again.
+ */
+@Component("searchCacheKeyGenerator")
+public class SearchCacheKeyGenerator implements KeyGenerator {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final CatalogVersion catalogVersion;
+
+    SearchCacheKeyGenerator(CatalogVersion catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Object[] key = new Object[params.length + 2];
+        key[0] = catalogVersion.current();
+        key[1] = method.getName();
+        for (int i = 0; i < params.length; i++) {
+            key[i + 2] = normalizeParam(params[i]);
+        }
+        return new SimpleKey(key);
+    }
+
+    private static Object normalizeParam(Object param) {
+        if (param instanceof String text) {
+            return normalize(text);
+        }
+        if (param instanceof RecipeSearchRequest request) {
+            // Copy, so the key doesn't change if the caller reuses the request object
+            RecipeSearchRequest key = request.copy();
+            key.setQuery(request.getQuery() == null ? null : normalize(request.getQuery()));
+            if (key instanceof IngredientSearchRequest ingredientKey && ingredientKey.getIngredients() != null) {
+                // Duplicates are kept: they count towards match=all and the matched-ingredient score
+                ingredientKey.setIngredients(ingredientKey.getIngredients().stream()
+                        .filter(Objects::nonNull)
+                        .map(SearchCacheKeyGenerator::normalize)
+                        .filter(ingredient -> !ingredient.isEmpty())
+                        .sorted()
+                        .toList());
+            }
+            return key;
+        }
+        return param;
+    }
+
+    static String normalize(String query) {
+        return WHITESPACE.matcher(query.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+}
@@ -1,7 +1,11 @@
 package com.publicis.recipes.controller;
 
+import java.net.URI;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,40 +13,177 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
+import com.publicis.recipes.dto.IngredientSearchRequest;
+import com.publicis.recipes.dto.LoadJobDTO;
+import com.publicis.recipes.dto.RecipeBatchDTO;
 import com.publicis.recipes.dto.RecipeDTO;
+import com.publicis.recipes.dto.RecipeSearchRequest;
+import com.publicis.recipes.dto.RecipeSummaryDTO;
+import com.publicis.recipes.dto.SearchPage;
+import com.publicis.recipes.dto.SuggestionDTO;
 import com.publicis.recipes.exception.CustomException;
 import com.publicis.recipes.model.Recipe;
+import com.publicis.recipes.service.CatalogVersion;
+import com.publicis.recipes.service.LoadJobService;
 import com.publicis.recipes.service.RecipeService;
+import com.publicis.recipes.service.RecipeSuggester;
+
+import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/api/recipes")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {
+        RecipeController.TOTAL_COUNT_HEADER, RecipeController.TOTAL_COUNT_EXACT_HEADER, RecipeController.NEXT_CURSOR_HEADER,
+        HttpHeaders.ETAG, HttpHeaders.LOCATION })
 public class RecipeController {
 
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    static final String TOTAL_COUNT_EXACT_HEADER = "X-Total-Count-Exact";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final RecipeService recipeService;
+    private final RecipeSuggester recipeSuggester;
+    private final CatalogVersion catalogVersion;
+    private final LoadJobService loadJobService;
     
-    RecipeController(RecipeService recipeService){
+    RecipeController(RecipeService recipeService, RecipeSuggester recipeSuggester, CatalogVersion catalogVersion,
+    		LoadJobService loadJobService){
     	this.recipeService=recipeService;
+    	this.recipeSuggester=recipeSuggester;
+    	this.catalogVersion=catalogVersion;
+    	this.loadJobService=loadJobService;
     }
 
+    /**
+     * Starts a background load (or joins the one in progress) and answers straight away; poll the
+     * {@code Location} for its progress.
+     */
     @PostMapping("/load")
-    public String loadRecipes() throws CustomException {
-        return recipeService.loadRecipesFromExternal();
+    public ResponseEntity<LoadJobDTO> loadRecipes() {
+        LoadJobDTO job = loadJobService.submit();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/recipes/load/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/load/{jobId}")
+    public LoadJobDTO getLoadJob(@PathVariable String jobId) throws CustomException {
+        return loadJobService.getJob(jobId);
     }
 
     @GetMapping("/search")
-    public List<RecipeDTO> searchRecipes(@RequestParam String query) {
-        return recipeService.searchRecipes(query);
+    public ResponseEntity<List<RecipeDTO>> searchRecipes(@Valid RecipeSearchRequest request, WebRequest webRequest) throws CustomException {
+        if (catalogNotModified(webRequest)) {
+            return null;
+        }
+        return paged(recipeService.searchRecipes(request));
     }
     
     @GetMapping("/search-highlight")
-    public List<RecipeDTO> searchRecipesHighlight(@RequestParam String query) {
-        return recipeService.searchRecipesHighlight(query);
+    public ResponseEntity<List<RecipeDTO>> searchRecipesHighlight(@Valid RecipeSearchRequest request, WebRequest webRequest) throws CustomException {
+        if (catalogNotModified(webRequest)) {
+            return null;
+        }
+        return paged(recipeService.searchRecipesHighlight(request));
+    }
+
+    @GetMapping("/search-summary")
+    public ResponseEntity<List<RecipeSummaryDTO>> searchRecipeSummaries(@Valid RecipeSearchRequest request, WebRequest webRequest) throws CustomException {
+        if (catalogNotModified(webRequest)) {
+            return null;
+        }
+        return paged(recipeService.searchRecipeSummaries(request));
+    }
+
+    @GetMapping("/facets")
+    public SearchPage<RecipeSummaryDTO> searchRecipeFacets(@Valid RecipeSearchRequest request, WebRequest webRequest) throws CustomException {
+        if (catalogNotModified(webRequest)) {
+            return null;
+        }
+        return recipeService.searchRecipeFacets(request);
+    }
+
+    @GetMapping("/by-ingredients")
+    public ResponseEntity<List<RecipeSummaryDTO>> searchByIngredients(@Valid IngredientSearchRequest request, WebRequest webRequest) throws CustomException {
+        if (catalogNotModified(webRequest)) {
+            return null;
+        }
+        return paged(recipeService.searchByIngredients(request));
+    }
+
+    @GetMapping("/suggest")
+    public List<SuggestionDTO> suggest(@RequestParam(defaultValue = "") String prefix, @RequestParam(defaultValue = "8") int limit,
+            WebRequest webRequest) {
+        if (catalogNotModified(webRequest)) {
+            return null;
+        }
+        return recipeSuggester.suggest(prefix, limit);
+    }
+
+    @GetMapping(params = "ids")
+    public RecipeBatchDTO getByIds(@RequestParam List<Long> ids, WebRequest webRequest) throws CustomException {
+        if (catalogNotModified(webRequest)) {
+            return null;
+        }
+        return recipeService.getByIds(ids);
     }
 
     @GetMapping("/{id}")
-    public RecipeDTO getById(@PathVariable Long id) throws CustomException {
-        return recipeService.getById(id);
+    public RecipeDTO getById(@PathVariable Long id, WebRequest webRequest) throws CustomException {
+        // The tag follows the recipe's own content, so it survives loads that left this recipe
+        // unchanged. A revalidation is checked against the hash alone, before the recipe is loaded
+        String contentHash = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null ? recipeService.getContentHash(id) : null;
+        if (contentHash != null && webRequest.checkNotModified(contentETag(contentHash))) {
+            return null;
+        }
+        RecipeDTO recipe = recipeService.getById(id);
+        if (contentHash == null && recipe.getContentHash() != null) {
+            // Nothing to compare against, this only sets the ETag
+            webRequest.checkNotModified(contentETag(recipe.getContentHash()));
+        }
+        revalidate(webRequest);
+        return recipe;
+    }
+
+    /**
+     * Answers {@code If-None-Match}/{@code If-Modified-Since} from the catalog version alone, before the
+     * request touches the DB or the index; every catalog response is valid until the next load changes
+     * something. Sets {@code ETag}/{@code Last-Modified} on the response either way.
+     */
+    private boolean catalogNotModified(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.etag(), catalogVersion.getLastModified().toEpochMilli())) {
+            return true;
+        }
+        revalidate(webRequest);
+        return false;
+    }
+
+    private static String contentETag(String contentHash) {
+        return "W/\"" + contentHash + "\"";
+    }
+
+    /**
+     * Lets browsers and CDNs store the response but revalidate it on every use.
+     */
+    private static void revalidate(WebRequest webRequest) {
+        if (webRequest instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+    }
+
+    /**
+     * Keeps the body a plain list, as before paging, and reports the paging metadata in headers.
+     */
+    private static <T> ResponseEntity<List<T>> paged(SearchPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotalHits()))
+                .header(TOTAL_COUNT_EXACT_HEADER, String.valueOf(page.isTotalHitsExact()));
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.publicis.recipes.controller;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.publicis.recipes.dto.RecipeDTO;
+
+/**
+ * Sparse fieldsets: {@code ?fields=name,image} limits every recipe in the response to the listed
+ * properties (plus {@code id}). Unselected properties, e.g. the ingredient and instruction lists, are
+ * skipped by the serializer rather than written and stripped. Envelopes such as {@code SearchPage}
+ * are left as they are.
+ */
+@ControllerAdvice(assignableTypes = RecipeController.class)
+public class SparseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAM = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        Set<String> fields = requestedFields(request);
+        SimpleBeanPropertyFilter filter = fields.isEmpty()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+        bodyContainer.setFilters(new SimpleFilterProvider().addFilter(RecipeDTO.FIELDS_FILTER, filter));
+    }
+
+    private static Set<String> requestedFields(ServerHttpRequest request) {
+        Set<String> fields = new LinkedHashSet<>();
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return fields;
+        }
+        String[] values = servletRequest.getServletRequest().getParameterValues(FIELDS_PARAM);
+        if (values == null) {
+            return fields;
+        }
+        for (String value : values) {
+            for (String field : value.split(",")) {
+                if (!field.isBlank()) {
+                    fields.add(field.trim());
+                }
+            }
+        }
+        if (!fields.isEmpty()) {
+            fields.add("id");
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,58 @@
+package com.publicis.recipes.dto;
+
+import java.util.List;
+
+import com.publicis.recipes.model.Recipe;
+
+/**
+ * One page of the upstream recipes feed ({@code ?limit=&skip=}) mapped to entities.
+ */
+public class ExternalRecipePage {
+    private List<Recipe> recipes;
+    private int total;
+    private int skip;
+    private int limit;
+    private int malformedRecords;
+
+    public ExternalRecipePage() {
+
+    }
+
+    public ExternalRecipePage(List<Recipe> recipes, int total, int skip, int limit) {
+        this.recipes = recipes;
+        this.total = total;
+        this.skip = skip;
+        this.limit = limit;
+    }
+
+	public List<Recipe> getRecipes() {
+		return recipes;
+	}
+	public void setRecipes(List<Recipe> recipes) {
+		this.recipes = recipes;
+	}
+	public int getTotal() {
+		return total;
+	}
+	public void setTotal(int total) {
+		this.total = total;
+	}
+	public int getSkip() {
+		return skip;
+	}
+	public void setSkip(int skip) {
+		this.skip = skip;
+	}
+	public int getLimit() {
+		return limit;
+	}
+	public void setLimit(int limit) {
+		this.limit = limit;
+	}
+	public int getMalformedRecords() {
+		return malformedRecords;
+	}
+	public void setMalformedRecords(int malformedRecords) {
+		this.malformedRecords = malformedRecords;
+	}
+}
@@ -0,0 +1,74 @@
+package com.publicis.recipes.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Search by what is in the pantry. {@code match=all} (default) requires every ingredient,
+ * {@code match=any} at least one, and {@code minimumShouldMatch} any N of them. All other parameters
+ * of {@link RecipeSearchRequest} apply as usual; {@code query} only filters and does not affect ranking.
+ */
+public class IngredientSearchRequest extends RecipeSearchRequest {
+    @NotEmpty
+    private List<String> ingredients;
+    @Pattern(regexp = "all|any")
+    private String match = "all";
+    @Min(1)
+    private Integer minimumShouldMatch;
+
+    public IngredientSearchRequest() {
+
+    }
+
+    public IngredientSearchRequest(List<String> ingredients) {
+        this.ingredients = ingredients;
+    }
+
+    @Override
+    public IngredientSearchRequest copy() {
+        IngredientSearchRequest copy = new IngredientSearchRequest();
+        copyTo(copy);
+        copy.ingredients = copyOf(ingredients);
+        copy.match = match;
+        copy.minimumShouldMatch = minimumShouldMatch;
+        return copy;
+    }
+
+	public List<String> getIngredients() {
+		return ingredients;
+	}
+	public void setIngredients(List<String> ingredients) {
+		this.ingredients = ingredients;
+	}
+	public String getMatch() {
+		return match;
+	}
+	public void setMatch(String match) {
+		this.match = match;
+	}
+	public Integer getMinimumShouldMatch() {
+		return minimumShouldMatch;
+	}
+	public void setMinimumShouldMatch(Integer minimumShouldMatch) {
+		this.minimumShouldMatch = minimumShouldMatch;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!super.equals(o)) {
+			return false;
+		}
+		IngredientSearchRequest other = (IngredientSearchRequest) o;
+		return Objects.equals(ingredients, other.ingredients) && Objects.equals(match, other.match)
+				&& Objects.equals(minimumShouldMatch, other.minimumShouldMatch);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(super.hashCode(), ingredients, match, minimumShouldMatch);
+	}
+}
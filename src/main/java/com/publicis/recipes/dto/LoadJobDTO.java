@@ -0,0 +1,126 @@
+package com.publicis.recipes.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.publicis.recipes.service.LoadPhase;
+
+/**
+ * Status of a background recipe load. {@code resumedAtSkip} is set when the load continued an
+ * unfinished one from its checkpoint. {@code elapsedMillis} and {@code recipesPerSecond} are measured
+ * from the moment the load left the queue; {@code documentsIndexed}/{@code documentsToIndex} are only
+ * filled by FULL loads, which rebuild the index with the MassIndexer.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoadJobDTO {
+    private String jobId;
+    private LoadPhase phase;
+    private Integer resumedAtSkip;
+    private Instant submittedAt;
+    private Instant finishedAt;
+    private long pagesFetched;
+    private long recipesFetched;
+    private long recipesWritten;
+    private long recipesUnchanged;
+    private long recipesDeleted;
+    private long documentsIndexed;
+    private long documentsToIndex;
+    private Long elapsedMillis;
+    private Double recipesPerSecond;
+    private String message;
+
+    public LoadJobDTO() {
+
+    }
+
+	public String getJobId() {
+		return jobId;
+	}
+	public void setJobId(String jobId) {
+		this.jobId = jobId;
+	}
+	public LoadPhase getPhase() {
+		return phase;
+	}
+	public void setPhase(LoadPhase phase) {
+		this.phase = phase;
+	}
+	public Integer getResumedAtSkip() {
+		return resumedAtSkip;
+	}
+	public void setResumedAtSkip(Integer resumedAtSkip) {
+		this.resumedAtSkip = resumedAtSkip;
+	}
+	public Instant getSubmittedAt() {
+		return submittedAt;
+	}
+	public void setSubmittedAt(Instant submittedAt) {
+		this.submittedAt = submittedAt;
+	}
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+	public void setFinishedAt(Instant finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+	public long getPagesFetched() {
+		return pagesFetched;
+	}
+	public void setPagesFetched(long pagesFetched) {
+		this.pagesFetched = pagesFetched;
+	}
+	public long getRecipesFetched() {
+		return recipesFetched;
+	}
+	public void setRecipesFetched(long recipesFetched) {
+		this.recipesFetched = recipesFetched;
+	}
+	public long getRecipesWritten() {
+		return recipesWritten;
+	}
+	public void setRecipesWritten(long recipesWritten) {
+		this.recipesWritten = recipesWritten;
+	}
+	public long getRecipesUnchanged() {
+		return recipesUnchanged;
+	}
+	public void setRecipesUnchanged(long recipesUnchanged) {
+		this.recipesUnchanged = recipesUnchanged;
+	}
+	public long getRecipesDeleted() {
+		return recipesDeleted;
+	}
+	public void setRecipesDeleted(long recipesDeleted) {
+		this.recipesDeleted = recipesDeleted;
+	}
+	public long getDocumentsIndexed() {
+		return documentsIndexed;
+	}
+	public void setDocumentsIndexed(long documentsIndexed) {
+		this.documentsIndexed = documentsIndexed;
+	}
+	public long getDocumentsToIndex() {
+		return documentsToIndex;
+	}
+	public void setDocumentsToIndex(long documentsToIndex) {
+		this.documentsToIndex = documentsToIndex;
+	}
+	public Long getElapsedMillis() {
+		return elapsedMillis;
+	}
+	public void setElapsedMillis(Long elapsedMillis) {
+		this.elapsedMillis = elapsedMillis;
+	}
+	public Double getRecipesPerSecond() {
+		return recipesPerSecond;
+	}
+	public void setRecipesPerSecond(Double recipesPerSecond) {
+		this.recipesPerSecond = recipesPerSecond;
+	}
+	public String getMessage() {
+		return message;
+	}
+	public void setMessage(String message) {
+		this.message = message;
+	}
+}
@@ -0,0 +1,34 @@
+package com.publicis.recipes.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup: the recipes found, in the order their ids were requested, and the
+ * requested ids that do not exist.
+ */
+public class RecipeBatchDTO {
+    private List<RecipeDTO> recipes;
+    private List<Long> missingIds;
+
+    public RecipeBatchDTO() {
+
+    }
+
+    public RecipeBatchDTO(List<RecipeDTO> recipes, List<Long> missingIds) {
+        this.recipes = recipes;
+        this.missingIds = missingIds;
+    }
+
+	public List<RecipeDTO> getRecipes() {
+		return recipes;
+	}
+	public void setRecipes(List<RecipeDTO> recipes) {
+		this.recipes = recipes;
+	}
+	public List<Long> getMissingIds() {
+		return missingIds;
+	}
+	public void setMissingIds(List<Long> missingIds) {
+		this.missingIds = missingIds;
+	}
+}
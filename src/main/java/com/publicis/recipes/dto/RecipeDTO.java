@@ -1,14 +1,29 @@
 package com.publicis.recipes.dto;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.publicis.recipes.model.Recipe;
 
+/**
+ * Full recipe as returned by the API. Properties can be narrowed per request with {@code fields=}
+ * (see {@link #FIELDS_FILTER}); the highlight fields are only present for highlighted search.
+ */
+@JsonFilter(RecipeDTO.FIELDS_FILTER)
 public class RecipeDTO {
+
+    /** Jackson filter id shared by the recipe DTOs, set up per response from the {@code fields} parameter. */
+    public static final String FIELDS_FILTER = "recipeFields";
+
     private Long id;
     private String name;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String highlightedName;
     private String cuisine;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String highlightedCuisine;
     private String image;
     private Integer prepTimeMinutes;
@@ -22,6 +37,8 @@ public class RecipeDTO {
     private List<String> instructions;
     private List<String> tags;
     private List<String> mealType;
+    @JsonIgnore
+    private String contentHash;
     
     public RecipeDTO() {
     	
@@ -39,10 +56,16 @@ public class RecipeDTO {
         this.difficulty = recipe.getDifficulty();
         this.rating = recipe.getRating();
         this.reviewCount = recipe.getReviewCount();
-        this.ingredients = recipe.getIngredients();
-        this.instructions = recipe.getInstructions();
-        this.tags = recipe.getTags();
-        this.mealType = recipe.getMealType();
+        // Copy the (lazy) element collections so the DTO stays usable once the session is gone, e.g. from the cache
+        this.ingredients = copyOf(recipe.getIngredients());
+        this.instructions = copyOf(recipe.getInstructions());
+        this.tags = copyOf(recipe.getTags());
+        this.mealType = copyOf(recipe.getMealType());
+        this.contentHash = recipe.getContentHash();
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
     }
 
     
@@ -148,4 +171,10 @@ public class RecipeDTO {
 	public void setMealType(List<String> mealType) {
 		this.mealType = mealType;
 	}
+	public String getContentHash() {
+		return contentHash;
+	}
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
 }
\ No newline at end of file
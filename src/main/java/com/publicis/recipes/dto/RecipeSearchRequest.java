@@ -0,0 +1,234 @@
+package com.publicis.recipes.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.publicis.recipes.model.Recipe;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Query parameters shared by the search endpoints. Either {@code page}/{@code size} (relevance order)
+ * or {@code cursor} (deep pagination, see {@code SearchCursor}) is used to pick the hits. Without a
+ * {@code query} every recipe matches, narrowed down by the facet filters: values of one facet are
+ * OR-ed, different facets are AND-ed. The inclusive {@code min*}/{@code max*} bounds filter on the
+ * numeric attributes, and {@code sort} replaces relevance order (page mode only).
+ */
+public class RecipeSearchRequest {
+    private String query;
+    @Min(0)
+    private int page = 0;
+    @Min(1)
+    @Max(Recipe.COLLECTION_BATCH_SIZE)
+    private int size = 20;
+    private String cursor;
+    @Min(1)
+    private Integer countLimit;
+    private List<String> cuisine;
+    private List<String> difficulty;
+    private List<String> tags;
+    private List<String> mealType;
+    private Integer minPrepTimeMinutes;
+    private Integer maxPrepTimeMinutes;
+    private Integer minCookTimeMinutes;
+    private Integer maxCookTimeMinutes;
+    private Integer minCaloriesPerServing;
+    private Integer maxCaloriesPerServing;
+    private Double minRating;
+    private Double maxRating;
+    private Integer minReviewCount;
+    private Integer maxReviewCount;
+    private List<String> sort;
+
+    public RecipeSearchRequest() {
+
+    }
+
+    public RecipeSearchRequest(String query) {
+        this.query = query;
+    }
+
+    public RecipeSearchRequest copy() {
+        RecipeSearchRequest copy = new RecipeSearchRequest();
+        copyTo(copy);
+        return copy;
+    }
+
+    protected void copyTo(RecipeSearchRequest copy) {
+        copy.query = query;
+        copy.page = page;
+        copy.size = size;
+        copy.cursor = cursor;
+        copy.countLimit = countLimit;
+        copy.cuisine = copyOf(cuisine);
+        copy.difficulty = copyOf(difficulty);
+        copy.tags = copyOf(tags);
+        copy.mealType = copyOf(mealType);
+        copy.minPrepTimeMinutes = minPrepTimeMinutes;
+        copy.maxPrepTimeMinutes = maxPrepTimeMinutes;
+        copy.minCookTimeMinutes = minCookTimeMinutes;
+        copy.maxCookTimeMinutes = maxCookTimeMinutes;
+        copy.minCaloriesPerServing = minCaloriesPerServing;
+        copy.maxCaloriesPerServing = maxCaloriesPerServing;
+        copy.minRating = minRating;
+        copy.maxRating = maxRating;
+        copy.minReviewCount = minReviewCount;
+        copy.maxReviewCount = maxReviewCount;
+        copy.sort = copyOf(sort);
+    }
+
+    protected static List<String> copyOf(List<String> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
+	public String getQuery() {
+		return query;
+	}
+	public void setQuery(String query) {
+		this.query = query;
+	}
+	public int getPage() {
+		return page;
+	}
+	public void setPage(int page) {
+		this.page = page;
+	}
+	public int getSize() {
+		return size;
+	}
+	public void setSize(int size) {
+		this.size = size;
+	}
+	public String getCursor() {
+		return cursor;
+	}
+	public void setCursor(String cursor) {
+		this.cursor = cursor;
+	}
+	public Integer getCountLimit() {
+		return countLimit;
+	}
+	public void setCountLimit(Integer countLimit) {
+		this.countLimit = countLimit;
+	}
+	public List<String> getCuisine() {
+		return cuisine;
+	}
+	public void setCuisine(List<String> cuisine) {
+		this.cuisine = cuisine;
+	}
+	public List<String> getDifficulty() {
+		return difficulty;
+	}
+	public void setDifficulty(List<String> difficulty) {
+		this.difficulty = difficulty;
+	}
+	public List<String> getTags() {
+		return tags;
+	}
+	public void setTags(List<String> tags) {
+		this.tags = tags;
+	}
+	public List<String> getMealType() {
+		return mealType;
+	}
+	public void setMealType(List<String> mealType) {
+		this.mealType = mealType;
+	}
+	public Integer getMinPrepTimeMinutes() {
+		return minPrepTimeMinutes;
+	}
+	public void setMinPrepTimeMinutes(Integer minPrepTimeMinutes) {
+		this.minPrepTimeMinutes = minPrepTimeMinutes;
+	}
+	public Integer getMaxPrepTimeMinutes() {
+		return maxPrepTimeMinutes;
+	}
+	public void setMaxPrepTimeMinutes(Integer maxPrepTimeMinutes) {
+		this.maxPrepTimeMinutes = maxPrepTimeMinutes;
+	}
+	public Integer getMinCookTimeMinutes() {
+		return minCookTimeMinutes;
+	}
+	public void setMinCookTimeMinutes(Integer minCookTimeMinutes) {
+		this.minCookTimeMinutes = minCookTimeMinutes;
+	}
+	public Integer getMaxCookTimeMinutes() {
+		return maxCookTimeMinutes;
+	}
+	public void setMaxCookTimeMinutes(Integer maxCookTimeMinutes) {
+		this.maxCookTimeMinutes = maxCookTimeMinutes;
+	}
+	public Integer getMinCaloriesPerServing() {
+		return minCaloriesPerServing;
+	}
+	public void setMinCaloriesPerServing(Integer minCaloriesPerServing) {
+		this.minCaloriesPerServing = minCaloriesPerServing;
+	}
+	public Integer getMaxCaloriesPerServing() {
+		return maxCaloriesPerServing;
+	}
+	public void setMaxCaloriesPerServing(Integer maxCaloriesPerServing) {
+		this.maxCaloriesPerServing = maxCaloriesPerServing;
+	}
+	public Double getMinRating() {
+		return minRating;
+	}
+	public void setMinRating(Double minRating) {
+		this.minRating = minRating;
+	}
+	public Double getMaxRating() {
+		return maxRating;
+	}
+	public void setMaxRating(Double maxRating) {
+		this.maxRating = maxRating;
+	}
+	public Integer getMinReviewCount() {
+		return minReviewCount;
+	}
+	public void setMinReviewCount(Integer minReviewCount) {
+		this.minReviewCount = minReviewCount;
+	}
+	public Integer getMaxReviewCount() {
+		return maxReviewCount;
+	}
+	public void setMaxReviewCount(Integer maxReviewCount) {
+		this.maxReviewCount = maxReviewCount;
+	}
+	public List<String> getSort() {
+		return sort;
+	}
+	public void setSort(List<String> sort) {
+		this.sort = sort;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		RecipeSearchRequest other = (RecipeSearchRequest) o;
+		return page == other.page && size == other.size && Objects.equals(query, other.query)
+				&& Objects.equals(cursor, other.cursor) && Objects.equals(countLimit, other.countLimit)
+				&& Objects.equals(cuisine, other.cuisine) && Objects.equals(difficulty, other.difficulty)
+				&& Objects.equals(tags, other.tags) && Objects.equals(mealType, other.mealType)
+				&& Objects.equals(minPrepTimeMinutes, other.minPrepTimeMinutes) && Objects.equals(maxPrepTimeMinutes, other.maxPrepTimeMinutes)
+				&& Objects.equals(minCookTimeMinutes, other.minCookTimeMinutes) && Objects.equals(maxCookTimeMinutes, other.maxCookTimeMinutes)
+				&& Objects.equals(minCaloriesPerServing, other.minCaloriesPerServing) && Objects.equals(maxCaloriesPerServing, other.maxCaloriesPerServing)
+				&& Objects.equals(minRating, other.minRating) && Objects.equals(maxRating, other.maxRating)
+				&& Objects.equals(minReviewCount, other.minReviewCount) && Objects.equals(maxReviewCount, other.maxReviewCount)
+				&& Objects.equals(sort, other.sort);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(query, page, size, cursor, countLimit, cuisine, difficulty, tags, mealType,
+				minPrepTimeMinutes, maxPrepTimeMinutes, minCookTimeMinutes, maxCookTimeMinutes,
+				minCaloriesPerServing, maxCaloriesPerServing, minRating, maxRating, minReviewCount, maxReviewCount, sort);
+	}
+}
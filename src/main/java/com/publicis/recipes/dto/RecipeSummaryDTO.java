@@ -0,0 +1,76 @@
+package com.publicis.recipes.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Card-sized view of a recipe for list screens, built from index projections only.
+ * {@code matchedIngredients} is only set by ingredient search.
+ */
+@JsonFilter(RecipeDTO.FIELDS_FILTER)
+public class RecipeSummaryDTO {
+    private Long id;
+    private String name;
+    private String cuisine;
+    private String image;
+    private Double rating;
+    private String difficulty;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer matchedIngredients;
+
+    public RecipeSummaryDTO() {
+
+    }
+
+    public RecipeSummaryDTO(Long id, String name, String cuisine, String image, Double rating, String difficulty) {
+        this.id = id;
+        this.name = name;
+        this.cuisine = cuisine;
+        this.image = image;
+        this.rating = rating;
+        this.difficulty = difficulty;
+    }
+
+	public Long getId() {
+		return id;
+	}
+	public void setId(Long id) {
+		this.id = id;
+	}
+	public String getName() {
+		return name;
+	}
+	public void setName(String name) {
+		this.name = name;
+	}
+	public String getCuisine() {
+		return cuisine;
+	}
+	public void setCuisine(String cuisine) {
+		this.cuisine = cuisine;
+	}
+	public String getImage() {
+		return image;
+	}
+	public void setImage(String image) {
+		this.image = image;
+	}
+	public Double getRating() {
+		return rating;
+	}
+	public void setRating(Double rating) {
+		this.rating = rating;
+	}
+	public String getDifficulty() {
+		return difficulty;
+	}
+	public void setDifficulty(String difficulty) {
+		this.difficulty = difficulty;
+	}
+	public Integer getMatchedIngredients() {
+		return matchedIngredients;
+	}
+	public void setMatchedIngredients(Integer matchedIngredients) {
+		this.matchedIngredients = matchedIngredients;
+	}
+}
@@ -0,0 +1,61 @@
+package com.publicis.recipes.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One page of search hits plus paging metadata. In cursor mode {@code totalHits} counts the hits that
+ * are still ahead of the cursor. {@code facets} (facet name to term counts) is only set by faceted search.
+ */
+public class SearchPage<T> {
+    private List<T> items;
+    private long totalHits;
+    private boolean totalHitsExact;
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Map<String, Long>> facets;
+
+    public SearchPage() {
+
+    }
+
+    public SearchPage(List<T> items, long totalHits, boolean totalHitsExact, String nextCursor) {
+        this.items = items;
+        this.totalHits = totalHits;
+        this.totalHitsExact = totalHitsExact;
+        this.nextCursor = nextCursor;
+    }
+
+	public List<T> getItems() {
+		return items;
+	}
+	public void setItems(List<T> items) {
+		this.items = items;
+	}
+	public long getTotalHits() {
+		return totalHits;
+	}
+	public void setTotalHits(long totalHits) {
+		this.totalHits = totalHits;
+	}
+	public boolean isTotalHitsExact() {
+		return totalHitsExact;
+	}
+	public void setTotalHitsExact(boolean totalHitsExact) {
+		this.totalHitsExact = totalHitsExact;
+	}
+	public String getNextCursor() {
+		return nextCursor;
+	}
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+	public Map<String, Map<String, Long>> getFacets() {
+		return facets;
+	}
+	public void setFacets(Map<String, Map<String, Long>> facets) {
+		this.facets = facets;
+	}
+}
@@ -0,0 +1,42 @@
+package com.publicis.recipes.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One typeahead suggestion: a recipe name (with its id), a cuisine or a tag.
+ */
+public class SuggestionDTO {
+    private String text;
+    private String type;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long id;
+
+    public SuggestionDTO() {
+
+    }
+
+    public SuggestionDTO(String text, String type, Long id) {
+        this.text = text;
+        this.type = type;
+        this.id = id;
+    }
+
+	public String getText() {
+		return text;
+	}
+	public void setText(String text) {
+		this.text = text;
+	}
+	public String getType() {
+		return type;
+	}
+	public void setType(String type) {
+		this.type = type;
+	}
+	public Long getId() {
+		return id;
+	}
+	public void setId(Long id) {
+		this.id = id;
+	}
+}
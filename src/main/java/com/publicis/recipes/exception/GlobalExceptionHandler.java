@@ -6,6 +6,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
@@ -27,6 +29,15 @@ public class GlobalExceptionHandler {
         }
     }
     
+    // Handle invalid request parameters bound to an object (e.g. search paging)
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(BindException ex, WebRequest request) {
+    	FieldError fieldError = ex.getFieldError();
+    	String message = fieldError == null ? ex.getMessage() : "Invalid value for '%s': %s".formatted(fieldError.getField(), fieldError.getDefaultMessage());
+    	logger.error("Handled BindException - Message: {}", message);
+        return buildResponse(ex, HttpStatus.BAD_REQUEST, HttpStatus.BAD_REQUEST.name(), request, message);
+    }
+    
     // Handle all other exceptions
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAll(Exception ex, WebRequest request) {
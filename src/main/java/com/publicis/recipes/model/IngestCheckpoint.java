@@ -0,0 +1,57 @@
+package com.publicis.recipes.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * How far a page-by-page load of an upstream feed got: every page below {@code nextSkip} has been
+ * committed. Written after each committed page and deleted when a load completes, so a failed or
+ * interrupted load can resume at {@code nextSkip}. Only valid for the mode and page size it was
+ * written with.
+ */
+@Entity
+public class IngestCheckpoint {
+
+    public static final String RECIPES_FEED = "recipes";
+
+    @Id
+    @Column(length = 32)
+    private String feed;
+
+    @Column(length = 16)
+    private String mode;
+
+    private int pageSize;
+    private int nextSkip;
+    private Instant updatedAt;
+
+    public IngestCheckpoint() {
+
+    }
+
+    public IngestCheckpoint(String feed, String mode, int pageSize, int nextSkip) {
+        this.feed = feed;
+        this.mode = mode;
+        this.pageSize = pageSize;
+        this.nextSkip = nextSkip;
+        this.updatedAt = Instant.now();
+    }
+
+    public String getFeed() { return feed; }
+    public void setFeed(String feed) { this.feed = feed; }
+
+    public String getMode() { return mode; }
+    public void setMode(String mode) { this.mode = mode; }
+
+    public int getPageSize() { return pageSize; }
+    public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+
+    public int getNextSkip() { return nextSkip; }
+    public void setNextSkip(int nextSkip) { this.nextSkip = nextSkip; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -2,55 +2,100 @@ package com.publicis.recipes.model;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.search.engine.backend.types.Aggregable;
 import org.hibernate.search.engine.backend.types.Highlightable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 import java.util.List;
 
+import com.publicis.recipes.config.RecipeAnalysisConfigurer;
+
 @Entity
 @Indexed
 public class Recipe {
 
+    /**
+     * Touching one lazy collection initializes that collection for up to this many recipes in the
+     * session, so mapping a page of search hits costs one query per collection instead of one per hit.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 100;
+
+    /**
+     * Sortable copy of the id, used to resume cursor-paged searches with a range filter.
+     */
+    public static final String ID_SORT_FIELD = "recipeId";
+
     @Id
+    @GenericField(name = ID_SORT_FIELD, sortable = Sortable.YES)
     private Long id;
 
-    @FullTextField(highlightable = Highlightable.ANY)
+    @FullTextField(highlightable = Highlightable.ANY, projectable = Projectable.YES)
     private String name;
 
-    @FullTextField(highlightable = Highlightable.ANY)
+    @FullTextField(highlightable = Highlightable.ANY, projectable = Projectable.YES)
+    @KeywordField(name = "cuisine_facet", aggregable = Aggregable.YES)
     private String cuisine;
 
+    @KeywordField(searchable = Searchable.NO, projectable = Projectable.YES)
     private String image;
+
+    @GenericField(sortable = Sortable.YES, aggregable = Aggregable.YES)
     private Integer prepTimeMinutes;
+    @GenericField(sortable = Sortable.YES, aggregable = Aggregable.YES)
     private Integer cookTimeMinutes;
+    @GenericField(sortable = Sortable.YES, aggregable = Aggregable.YES)
     private Integer caloriesPerServing;
     private Integer servings;
+
+    @KeywordField(projectable = Projectable.YES, aggregable = Aggregable.YES)
     private String difficulty;
+
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES, aggregable = Aggregable.YES)
     private Double rating;
+
+    @GenericField(sortable = Sortable.YES, aggregable = Aggregable.YES)
     private Integer reviewCount;
 
     @ElementCollection
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(name = "recipe_ingredients", joinColumns = @JoinColumn(name = "recipe_id"))
     @Column(name = "ingredient")
+    @FullTextField(analyzer = RecipeAnalysisConfigurer.INGREDIENT_ANALYZER)
     private List<String> ingredients;
 
     @ElementCollection
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(name = "recipe_instructions", joinColumns = @JoinColumn(name = "recipe_id"))
     @Column(name = "instruction")
     private List<String> instructions;
 
     @ElementCollection
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(name = "recipe_tags", joinColumns = @JoinColumn(name = "recipe_id"))
     @Column(name = "tag")
+    @KeywordField(aggregable = Aggregable.YES)
     private List<String> tags;
 
     @ElementCollection
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
     @CollectionTable(name = "recipe_meal_types", joinColumns = @JoinColumn(name = "recipe_id"))
     @Column(name = "meal_type")
+    @KeywordField(aggregable = Aggregable.YES)
     private List<String> mealType;
 
     private Long userId;
+
+    // Indexed so a persisted index can be checked against the DB at startup
+    @KeywordField(searchable = Searchable.NO, projectable = Projectable.YES)
+    @Column(length = 64)
+    private String contentHash;
     
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -99,4 +144,7 @@ public class Recipe {
 
     public Long getUserId() { return userId; }
     public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
 }
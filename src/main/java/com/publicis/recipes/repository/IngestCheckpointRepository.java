@@ -0,0 +1,8 @@
+package com.publicis.recipes.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.publicis.recipes.model.IngestCheckpoint;
+
+public interface IngestCheckpointRepository extends JpaRepository<IngestCheckpoint, String> {
+}
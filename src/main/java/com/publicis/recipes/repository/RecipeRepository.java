@@ -1,8 +1,53 @@
 package com.publicis.recipes.repository;
 
 import com.publicis.recipes.model.Recipe;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
-	
-}
\ No newline at end of file
+
+	interface ContentHashView {
+		Long getId();
+		String getContentHash();
+	}
+
+	interface SuggestionSourceView {
+		Long getId();
+		String getName();
+		Double getRating();
+		Integer getReviewCount();
+	}
+
+	interface TermCountView {
+		String getTerm();
+		Long getRecipes();
+	}
+
+	@Query("select r.id as id, r.contentHash as contentHash from Recipe r where r.id in :ids")
+	List<ContentHashView> findContentHashesByIdIn(Collection<Long> ids);
+
+	@Query("select r.contentHash from Recipe r where r.id = :id")
+	String findContentHashById(Long id);
+
+	List<Recipe> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+	@Query("select r.id as id, r.contentHash as contentHash from Recipe r")
+	List<ContentHashView> findAllContentHashes();
+
+	@Query("select r.id from Recipe r")
+	List<Long> findAllIds();
+
+	@Query("select r.id as id, r.name as name, r.rating as rating, r.reviewCount as reviewCount from Recipe r")
+	List<SuggestionSourceView> findSuggestionSources();
+
+	@Query("select r.cuisine as term, count(r) as recipes from Recipe r where r.cuisine is not null group by r.cuisine")
+	List<TermCountView> countRecipesByCuisine();
+
+	@Query("select t as term, count(r) as recipes from Recipe r join r.tags t group by t")
+	List<TermCountView> countRecipesByTag();
+}
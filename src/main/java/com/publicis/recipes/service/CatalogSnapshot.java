@@ -0,0 +1,306 @@
+package com.publicis.recipes.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.publicis.recipes.model.Recipe;
+import com.publicis.recipes.repository.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compact binary copy of the recipe catalog, written after every load that changed it and read back
+ * at startup when the DB is empty, so a fresh instance is useful without a full upstream ingest.
+ * <p>
+ * Layout: magic, {@link #FORMAT_VERSION}, catalog timestamp and recipe count, followed by the
+ * recipes as gzipped {@code DataOutput} records (the gzip trailer's CRC32 covers the payload). Strings
+ * are written as a byte length and UTF-8 bytes, so their size is not limited to the 64 KB of
+ * {@code writeUTF}. A file with another format version, a wrong count or a bad checksum is ignored.
+ */
+@Component
+public class CatalogSnapshot {
+	private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshot.class);
+
+	private static final int MAGIC = 0x52435053; // "RCPS"
+
+	/** Bump whenever the record layout below changes. */
+	static final int FORMAT_VERSION = 2;
+
+	@Value("${app.snapshot.enabled:false}")
+	private boolean enabled = false;
+
+	@Value("${app.snapshot.path:./data/recipes.snapshot}")
+	private Path path = Path.of("./data/recipes.snapshot");
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeBatchWriter recipeBatchWriter;
+    private final CatalogVersion catalogVersion;
+    private final EntityManager entityManager;
+
+    CatalogSnapshot(RecipeRepository recipeRepository, RecipeBatchWriter recipeBatchWriter, CatalogVersion catalogVersion,
+    		EntityManager entityManager) {
+        this.recipeRepository = recipeRepository;
+        this.recipeBatchWriter = recipeBatchWriter;
+        this.catalogVersion = catalogVersion;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Replaces the snapshot with the current DB contents, read in pages of
+     * {@link Recipe#COLLECTION_BATCH_SIZE} recipes in id order so that only one page is held in the
+     * persistence context at a time. Failures are logged, never thrown: the snapshot only speeds up
+     * the next cold start.
+     */
+    @Transactional(readOnly = true)
+    public void save() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            int count = Math.toIntExact(recipeRepository.count());
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                write(count, this::pageAfter, Instant.now(), out);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Wrote catalog snapshot of {} recipes to {} in {}ms", count, path, System.currentTimeMillis() - start);
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Could not write catalog snapshot to {}: {}", path, ex.getMessage());
+        }
+    }
+
+    private List<Recipe> pageAfter(long afterId) {
+        // The previous page has been written out already
+        entityManager.clear();
+        return recipeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(Recipe.COLLECTION_BATCH_SIZE));
+    }
+
+    /**
+     * Restores an empty DB from the snapshot, before {@link SearchIndexVerifier} checks the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(SearchIndexVerifier.ORDER - 10)
+    public void restoreOnStartup() {
+        if (!enabled || !Files.isRegularFile(path) || recipeRepository.count() > 0) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Contents contents;
+        try (InputStream in = Files.newInputStream(path)) {
+            contents = read(in);
+        } catch (IOException ex) {
+            logger.warn("Ignoring catalog snapshot {}: {}", path, ex.getMessage());
+            return;
+        }
+
+        recipeBatchWriter.save(contents.recipes());
+        catalogVersion.bump(contents.createdAt());
+        logger.info("Restored {} recipes from catalog snapshot of {} in {}ms", contents.recipes().size(),
+                contents.createdAt(), System.currentTimeMillis() - start);
+    }
+
+    record Contents(Instant createdAt, List<Recipe> recipes) {
+    }
+
+    static void write(List<Recipe> recipes, Instant createdAt, OutputStream target) throws IOException {
+        write(recipes.size(), afterId -> afterId == Long.MIN_VALUE ? recipes : List.of(), createdAt, target);
+    }
+
+    /**
+     * Writes {@code count} recipes obtained page by page from {@code pagesAfter}, which is given the id
+     * of the last recipe written so far ({@link Long#MIN_VALUE} at first) and returns an empty page
+     * at the end.
+     */
+    static void write(int count, LongFunction<List<Recipe>> pagesAfter, Instant createdAt, OutputStream target) throws IOException {
+        DataOutputStream header = new DataOutputStream(target);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.writeLong(createdAt.toEpochMilli());
+        header.writeInt(count);
+        header.flush();
+
+        GZIPOutputStream gzip = new GZIPOutputStream(target, 64 * 1024);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(gzip, 64 * 1024));
+        int written = 0;
+        long lastId = Long.MIN_VALUE;
+        for (List<Recipe> page = pagesAfter.apply(lastId); !page.isEmpty(); page = pagesAfter.apply(lastId)) {
+            for (Recipe recipe : page) {
+                writeRecipe(out, recipe);
+            }
+            written += page.size();
+            lastId = page.get(page.size() - 1).getId();
+        }
+        if (written != count) {
+            throw new IOException("catalog changed while writing the snapshot (%d recipes, expected %d)".formatted(written, count));
+        }
+        out.flush();
+        gzip.finish();
+    }
+
+    private static void writeRecipe(DataOutputStream out, Recipe recipe) throws IOException {
+        out.writeLong(recipe.getId());
+        writeString(out, recipe.getName());
+        writeString(out, recipe.getCuisine());
+        writeString(out, recipe.getImage());
+        writeInteger(out, recipe.getPrepTimeMinutes());
+        writeInteger(out, recipe.getCookTimeMinutes());
+        writeInteger(out, recipe.getCaloriesPerServing());
+        writeInteger(out, recipe.getServings());
+        writeString(out, recipe.getDifficulty());
+        writeDouble(out, recipe.getRating());
+        writeInteger(out, recipe.getReviewCount());
+        writeList(out, recipe.getIngredients());
+        writeList(out, recipe.getInstructions());
+        writeList(out, recipe.getTags());
+        writeList(out, recipe.getMealType());
+        writeLong(out, recipe.getUserId());
+        writeString(out, recipe.getContentHash());
+    }
+
+    static Contents read(InputStream source) throws IOException {
+        DataInputStream header = new DataInputStream(source);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("not a catalog snapshot");
+        }
+        int formatVersion = header.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("snapshot format %d, expected %d".formatted(formatVersion, FORMAT_VERSION));
+        }
+        Instant createdAt = Instant.ofEpochMilli(header.readLong());
+        int count = header.readInt();
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(source, 64 * 1024), 64 * 1024));
+        List<Recipe> recipes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Recipe recipe = new Recipe();
+            recipe.setId(in.readLong());
+            recipe.setName(readString(in));
+            recipe.setCuisine(readString(in));
+            recipe.setImage(readString(in));
+            recipe.setPrepTimeMinutes(readInteger(in));
+            recipe.setCookTimeMinutes(readInteger(in));
+            recipe.setCaloriesPerServing(readInteger(in));
+            recipe.setServings(readInteger(in));
+            recipe.setDifficulty(readString(in));
+            recipe.setRating(readDouble(in));
+            recipe.setReviewCount(readInteger(in));
+            recipe.setIngredients(readList(in));
+            recipe.setInstructions(readList(in));
+            recipe.setTags(readList(in));
+            recipe.setMealType(readList(in));
+            recipe.setUserId(readLong(in));
+            recipe.setContentHash(readString(in));
+            recipes.add(recipe);
+        }
+        // Reading to the end makes GZIPInputStream verify the CRC32 and length in its trailer
+        if (in.read() != -1) {
+            throw new IOException("snapshot holds more than %d recipes".formatted(count));
+        }
+        return new Contents(createdAt, recipes);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("negative string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static Double readDouble(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+
+    private static void writeList(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (String value : values) {
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static List<String> readList(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,46 @@
+package com.publicis.recipes.service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Generation counter of the recipe catalog (DB rows + Lucene index). Bumped by every load that
+ * changed something, so anything derived from the catalog can tell whether it is still current.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Instant lastModified = Instant.now();
+
+    public long current() {
+        return generation.get();
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Weak entity tag for responses derived from the whole catalog. The last-modified time keeps it
+     * unique across restarts, where the generation starts again from zero.
+     */
+    public String etag() {
+        return "W/\"%d-%x\"".formatted(generation.get(), lastModified.toEpochMilli());
+    }
+
+    public long bump() {
+        return bump(Instant.now());
+    }
+
+    /**
+     * Bumps the generation for catalog contents that were last modified at {@code modifiedAt}, e.g.
+     * when they were restored from a snapshot.
+     */
+    public long bump(Instant modifiedAt) {
+        lastModified = modifiedAt;
+        return generation.incrementAndGet();
+    }
+}
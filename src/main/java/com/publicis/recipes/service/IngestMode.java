@@ -0,0 +1,34 @@
+package com.publicis.recipes.service;
+
+/**
+ * How {@link RecipeService#loadRecipesFromExternal(LoadProgress)} moves fetched pages into H2 and Lucene.
+ */
+public enum IngestMode {
+
+    /** Fetch the whole catalog, save it in one go, then rebuild the index with the MassIndexer. */
+    FULL,
+
+    /** Persist and index every page as soon as it is fetched; heap usage is bounded by one page. */
+    STREAMING,
+
+    /**
+     * Like {@link #STREAMING}, but only recipes whose content hash changed are written and recipes that
+     * disappeared upstream are deleted; automatic indexing then touches just those documents.
+     */
+    DELTA,
+
+    /**
+     * Blue/green style reload: the whole catalog is fetched and staged while readers keep using the
+     * current one, then the differences (writes and deletions) are applied in one transaction, so
+     * searches never see a half-written catalog or an index being rebuilt.
+     */
+    SHADOW;
+
+    /**
+     * Whether pages are committed as they arrive, so an unfinished load can resume from a checkpoint
+     * instead of starting over.
+     */
+    public boolean isResumable() {
+        return this == STREAMING || this == DELTA;
+    }
+}
@@ -0,0 +1,41 @@
+package com.publicis.recipes.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One triggered recipe load and its live {@link LoadProgress}.
+ */
+public class LoadJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Instant submittedAt = Instant.now();
+    private final LoadProgress progress = new LoadProgress();
+    private volatile String message;
+
+    void finish(LoadPhase phase, String message) {
+        this.message = message;
+        // Set last: once the phase reads as finished, the message is final
+        progress.phase(phase);
+    }
+
+    public boolean isFinished() {
+        return progress.getPhase().isFinished();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public LoadProgress getProgress() {
+        return progress;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
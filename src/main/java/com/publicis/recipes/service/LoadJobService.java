@@ -0,0 +1,126 @@
+package com.publicis.recipes.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.publicis.recipes.dto.LoadJobDTO;
+import com.publicis.recipes.exception.CustomException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs recipe loads as background jobs on {@code recipeLoadExecutor}. Only one load is queued or
+ * running at a time: triggering a load while one is in flight returns that job instead of starting
+ * another. The most recent {@code app.ingest.jobs.history-size} jobs can be looked up by id.
+ */
+@Service
+public class LoadJobService {
+	private static final Logger logger = LoggerFactory.getLogger(LoadJobService.class);
+
+	@Value("${app.ingest.jobs.history-size:20}")
+	private int historySize = 20;
+
+    private final RecipeService recipeService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final AsyncTaskExecutor loadExecutor;
+
+    private final Map<String, LoadJob> jobs = new LinkedHashMap<>();
+    private LoadJob current;
+
+    LoadJobService(RecipeService recipeService, EntityManagerFactory entityManagerFactory,
+    		@Qualifier("recipeLoadExecutor") AsyncTaskExecutor loadExecutor) {
+        this.recipeService = recipeService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.loadExecutor = loadExecutor;
+    }
+
+    /**
+     * Starts a load, or returns the load that is already queued or running.
+     */
+    public synchronized LoadJobDTO submit() {
+        if (current != null && !current.isFinished()) {
+            logger.info("Recipe load {} already in progress, not starting another", current.getId());
+            return toDTO(current);
+        }
+
+        LoadJob job = new LoadJob();
+        jobs.put(job.getId(), job);
+        while (jobs.size() > Math.max(1, historySize)) {
+            jobs.remove(jobs.keySet().iterator().next());
+        }
+        current = job;
+        loadExecutor.execute(() -> run(job));
+        logger.info("Recipe load {} submitted", job.getId());
+        return toDTO(job);
+    }
+
+    public synchronized LoadJobDTO getJob(String jobId) throws CustomException {
+        LoadJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new CustomException(HttpStatus.NOT_FOUND, "Load job not found with id: " + jobId);
+        }
+        return toDTO(job);
+    }
+
+    /**
+     * Runs the load with an entity manager bound to the executor thread, as open-in-view does for
+     * request threads, so the loader and the MassIndexer share one session like they did before.
+     */
+    private void run(LoadJob job) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            String result = recipeService.loadRecipesFromExternal(job.getProgress());
+            job.finish(LoadPhase.COMPLETED, result);
+        } catch (Exception ex) {
+            logger.error("Recipe load {} failed: {}", job.getId(), ex.getMessage());
+            job.finish(LoadPhase.FAILED, ex.getMessage());
+        } catch (Error error) {
+            // Still finish the job, or it would absorb every later trigger; the error itself goes on to the executor
+            logger.error("Recipe load {} aborted", job.getId(), error);
+            job.finish(LoadPhase.FAILED, error.toString());
+            throw error;
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(entityManager);
+        }
+        logger.info("Recipe load {} finished ({})", job.getId(), job.getProgress());
+    }
+
+    private static LoadJobDTO toDTO(LoadJob job) {
+        LoadProgress progress = job.getProgress();
+        LoadJobDTO dto = new LoadJobDTO();
+        dto.setJobId(job.getId());
+        dto.setPhase(progress.getPhase());
+        if (progress.getResumedAt() > 0) {
+            dto.setResumedAtSkip(progress.getResumedAt());
+        }
+        dto.setSubmittedAt(job.getSubmittedAt());
+        dto.setFinishedAt(progress.getFinishedAt());
+        dto.setPagesFetched(progress.getPagesFetched());
+        dto.setRecipesFetched(progress.getRecipesFetched());
+        dto.setRecipesWritten(progress.getRecipesWritten());
+        dto.setRecipesUnchanged(progress.getRecipesUnchanged());
+        dto.setRecipesDeleted(progress.getRecipesDeleted());
+        dto.setDocumentsIndexed(progress.getDocumentsIndexed());
+        dto.setDocumentsToIndex(progress.getDocumentsToIndex());
+        if (progress.getPhase() != LoadPhase.QUEUED) {
+            dto.setElapsedMillis(progress.getElapsed().toMillis());
+            dto.setRecipesPerSecond(progress.getRecipesPerSecond());
+        }
+        dto.setMessage(job.getMessage());
+        return dto;
+    }
+}
@@ -0,0 +1,27 @@
+package com.publicis.recipes.service;
+
+/**
+ * Where a recipe load currently is, as reported by {@code GET /api/recipes/load/{jobId}}.
+ */
+public enum LoadPhase {
+
+    /** Waiting for the load executor. */
+    QUEUED,
+
+    /** Fetching upstream pages; STREAMING and DELTA loads also write them in this phase. */
+    FETCHING,
+
+    /** FULL mode: saving the fetched catalog. */
+    WRITING,
+
+    /** FULL mode: rebuilding the Lucene index with the MassIndexer. */
+    INDEXING,
+
+    COMPLETED,
+
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
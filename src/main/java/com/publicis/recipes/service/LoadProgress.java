@@ -0,0 +1,156 @@
+package com.publicis.recipes.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingMonitor;
+
+/**
+ * Running counters of a single recipe load, safe to read while the load is still in progress.
+ */
+public class LoadProgress {
+
+    private volatile LoadPhase phase = LoadPhase.QUEUED;
+    private volatile Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+    private volatile int resumedAt;
+    private final AtomicLong pagesFetched = new AtomicLong();
+    private final AtomicLong recipesFetched = new AtomicLong();
+    private final AtomicLong recipesWritten = new AtomicLong();
+    private final AtomicLong recipesUnchanged = new AtomicLong();
+    private final AtomicLong recipesDeleted = new AtomicLong();
+    private final AtomicLong documentsIndexed = new AtomicLong();
+    private final AtomicLong documentsToIndex = new AtomicLong();
+
+    /**
+     * Enters a new phase. Leaving {@link LoadPhase#QUEUED} restarts the clock, so queueing time does
+     * not count towards the throughput, and a finished phase stops it.
+     */
+    public void phase(LoadPhase phase) {
+        if (this.phase == LoadPhase.QUEUED && phase != LoadPhase.QUEUED) {
+            startedAt = Instant.now();
+        }
+        if (phase.isFinished()) {
+            finishedAt = Instant.now();
+        }
+        this.phase = phase;
+    }
+
+    public void pageFetched(int recipes) {
+        pagesFetched.incrementAndGet();
+        recipesFetched.addAndGet(recipes);
+    }
+
+    public void recipesWritten(int recipes) {
+        recipesWritten.addAndGet(recipes);
+    }
+
+    public void recipesUnchanged(int recipes) {
+        recipesUnchanged.addAndGet(recipes);
+    }
+
+    public void recipesDeleted(int recipes) {
+        recipesDeleted.addAndGet(recipes);
+    }
+
+    /**
+     * Records that the load continues an unfinished one at {@code skip} (0 for a fresh load).
+     */
+    public void resumedAt(int skip) {
+        resumedAt = skip;
+    }
+
+    /**
+     * Counts the documents written by the MassIndexer, replacing its default logging monitor.
+     */
+    public MassIndexingMonitor indexingMonitor() {
+        return new MassIndexingMonitor() {
+            @Override
+            public void documentsAdded(long increment) {
+                documentsIndexed.addAndGet(increment);
+            }
+
+            @Override
+            public void documentsBuilt(long increment) {
+            }
+
+            @Override
+            public void entitiesLoaded(long increment) {
+            }
+
+            @Override
+            public void addToTotalCount(long count) {
+                documentsToIndex.addAndGet(count);
+            }
+
+            @Override
+            public void indexingCompleted() {
+            }
+        };
+    }
+
+    public LoadPhase getPhase() {
+        return phase;
+    }
+
+    public int getResumedAt() {
+        return resumedAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long getPagesFetched() {
+        return pagesFetched.get();
+    }
+
+    public long getRecipesFetched() {
+        return recipesFetched.get();
+    }
+
+    public long getRecipesWritten() {
+        return recipesWritten.get();
+    }
+
+    public long getRecipesUnchanged() {
+        return recipesUnchanged.get();
+    }
+
+    public long getRecipesDeleted() {
+        return recipesDeleted.get();
+    }
+
+    public long getDocumentsIndexed() {
+        return documentsIndexed.get();
+    }
+
+    public long getDocumentsToIndex() {
+        return documentsToIndex.get();
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Duration getElapsed() {
+        Instant end = finishedAt;
+        return Duration.between(startedAt, end != null ? end : Instant.now());
+    }
+
+    /**
+     * Fetched recipes per second since the load started.
+     */
+    public double getRecipesPerSecond() {
+        long millis = getElapsed().toMillis();
+        return millis == 0 ? 0 : getRecipesFetched() * 1000.0 / millis;
+    }
+
+    @Override
+    public String toString() {
+        return "phase=%s, pages=%d, fetched=%d, written=%d, unchanged=%d, deleted=%d, indexed=%d, elapsed=%dms".formatted(
+                getPhase(), getPagesFetched(), getRecipesFetched(), getRecipesWritten(), getRecipesUnchanged(),
+                getRecipesDeleted(), getDocumentsIndexed(), getElapsed().toMillis());
+    }
+}
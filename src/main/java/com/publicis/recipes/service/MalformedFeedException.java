@@ -0,0 +1,13 @@
+package com.publicis.recipes.service;
+
+/**
+ * An upstream page that arrived whole but is not a recipes page. Asking again would get the same
+ * answer, so the {@code recipes-api} retry and circuit breaker both ignore it.
+ */
+public class MalformedFeedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public MalformedFeedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
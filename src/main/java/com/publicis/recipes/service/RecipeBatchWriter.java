@@ -0,0 +1,138 @@
+package com.publicis.recipes.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.publicis.recipes.model.Recipe;
+import com.publicis.recipes.repository.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Bulk persistence path for the loader. Instead of {@code saveAll} (one existence select per entity,
+ * since ids are assigned upstream), recipes are written in chunks of {@code app.ingest.write-batch-size}:
+ * the rows of a chunk that already exist are loaded with a single query and updated in place, new
+ * recipes are {@code persist}ed, and the session is flushed and cleared after each chunk so Hibernate
+ * can send the inserts and updates for {@link Recipe} and its element collections as JDBC batches
+ * (see {@code hibernate.jdbc.batch_size} / {@code hibernate.order_inserts} / {@code hibernate.order_updates}).
+ */
+@Component
+public class RecipeBatchWriter {
+
+	@Value("${app.ingest.write-batch-size:50}")
+	private int batchSize = 50;
+
+    private final RecipeRepository recipeRepository;
+    private final EntityManager entityManager;
+
+    RecipeBatchWriter(RecipeRepository recipeRepository, EntityManager entityManager) {
+        this.recipeRepository = recipeRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Writes the recipes in one transaction; Hibernate Search indexes them on commit.
+     */
+    @Transactional
+    public void save(List<Recipe> recipes) {
+        write(recipes, true);
+    }
+
+    /**
+     * Writes the recipes without automatic indexing, for callers that rebuild the index afterwards.
+     */
+    @Transactional
+    public void saveWithoutIndexing(List<Recipe> recipes) {
+        write(recipes, false);
+    }
+
+    /**
+     * Deletes {@code deletedIds} and writes {@code recipes} in one transaction. Until it commits, readers
+     * see the previous catalog both in H2 and in the index; the index changes are applied together when
+     * it does.
+     */
+    @Transactional
+    public void replace(List<Recipe> recipes, List<Long> deletedIds) {
+        if (!deletedIds.isEmpty()) {
+            recipeRepository.deleteAllById(deletedIds);
+            entityManager.flush();
+        }
+        write(recipes, true);
+    }
+
+    private void write(List<Recipe> input, boolean index) {
+        if (input.isEmpty()) {
+            return;
+        }
+
+        // persist() twice for one id would fail the flush with a duplicate key; the last copy wins
+        Map<Long, Recipe> byId = new LinkedHashMap<>();
+        for (Recipe recipe : input) {
+            byId.put(recipe.getId(), recipe);
+        }
+        List<Recipe> recipes = new ArrayList<>(byId.values());
+
+        SearchSession searchSession = Search.session(entityManager);
+        if (!index) {
+            searchSession.indexingPlanFilter(ctx -> ctx.exclude(Recipe.class));
+        }
+
+        for (int from = 0; from < recipes.size(); from += batchSize) {
+            List<Recipe> chunk = recipes.subList(from, Math.min(from + batchSize, recipes.size()));
+
+            // merge() would select each existing row on its own; one IN query loads them all as managed instances
+            Map<Long, Recipe> stored = new HashMap<>();
+            for (Recipe recipe : recipeRepository.findAllById(chunk.stream().map(Recipe::getId).toList())) {
+                stored.put(recipe.getId(), recipe);
+            }
+
+            for (Recipe recipe : chunk) {
+                Recipe existing = stored.get(recipe.getId());
+                if (existing != null) {
+                    copyState(recipe, existing);
+                } else {
+                    entityManager.persist(recipe);
+                }
+            }
+
+            entityManager.flush();
+            if (index) {
+                // Build the index documents now, before the entities are detached by clear()
+                searchSession.indexingPlan().process();
+            }
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Copies every persistent field but the id. The element collections are replaced rather than
+     * updated, so their old rows are deleted by owner without being loaded first.
+     */
+    private static void copyState(Recipe source, Recipe target) {
+        target.setName(source.getName());
+        target.setCuisine(source.getCuisine());
+        target.setImage(source.getImage());
+        target.setPrepTimeMinutes(source.getPrepTimeMinutes());
+        target.setCookTimeMinutes(source.getCookTimeMinutes());
+        target.setCaloriesPerServing(source.getCaloriesPerServing());
+        target.setServings(source.getServings());
+        target.setDifficulty(source.getDifficulty());
+        target.setRating(source.getRating());
+        target.setReviewCount(source.getReviewCount());
+        target.setIngredients(source.getIngredients());
+        target.setInstructions(source.getInstructions());
+        target.setTags(source.getTags());
+        target.setMealType(source.getMealType());
+        target.setUserId(source.getUserId());
+        target.setContentHash(source.getContentHash());
+    }
+}
@@ -0,0 +1,60 @@
+package com.publicis.recipes.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.publicis.recipes.model.Recipe;
+
+/**
+ * SHA-256 fingerprint of everything the upstream feed sends for a recipe. Two recipes with the same
+ * hash need no database or index write.
+ */
+public final class RecipeContentHash {
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char ELEMENT_SEPARATOR = '\u001E';
+
+    private RecipeContentHash() {
+    }
+
+    public static String of(Recipe recipe) {
+        StringBuilder content = new StringBuilder(512);
+        append(content, recipe.getId());
+        append(content, recipe.getName());
+        append(content, recipe.getCuisine());
+        append(content, recipe.getImage());
+        append(content, recipe.getPrepTimeMinutes());
+        append(content, recipe.getCookTimeMinutes());
+        append(content, recipe.getCaloriesPerServing());
+        append(content, recipe.getServings());
+        append(content, recipe.getDifficulty());
+        append(content, recipe.getRating());
+        append(content, recipe.getReviewCount());
+        append(content, recipe.getUserId());
+        append(content, recipe.getIngredients());
+        append(content, recipe.getInstructions());
+        append(content, recipe.getTags());
+        append(content, recipe.getMealType());
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void append(StringBuilder content, Object value) {
+        if (value instanceof List<?> list) {
+            for (Object element : list) {
+                content.append(element).append(ELEMENT_SEPARATOR);
+            }
+        } else if (value != null) {
+            content.append(value);
+        }
+        content.append(FIELD_SEPARATOR);
+    }
+}
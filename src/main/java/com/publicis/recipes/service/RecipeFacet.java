@@ -0,0 +1,53 @@
+package com.publicis.recipes.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+
+import com.publicis.recipes.dto.RecipeSearchRequest;
+
+/**
+ * Facets of the recipe search: the request parameter / response key, the aggregable keyword field
+ * behind it and the filter values of a request.
+ */
+public enum RecipeFacet {
+
+    CUISINE("cuisine", "cuisine_facet", RecipeSearchRequest::getCuisine),
+    DIFFICULTY("difficulty", "difficulty", RecipeSearchRequest::getDifficulty),
+    TAGS("tags", "tags", RecipeSearchRequest::getTags),
+    MEAL_TYPE("mealType", "mealType", RecipeSearchRequest::getMealType);
+
+    private final String name;
+    private final String indexField;
+    private final Function<RecipeSearchRequest, List<String>> filterValues;
+    private final AggregationKey<Map<String, Long>> aggregationKey;
+
+    RecipeFacet(String name, String indexField, Function<RecipeSearchRequest, List<String>> filterValues) {
+        this.name = name;
+        this.indexField = indexField;
+        this.filterValues = filterValues;
+        this.aggregationKey = AggregationKey.of(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getIndexField() {
+        return indexField;
+    }
+
+    public AggregationKey<Map<String, Long>> getAggregationKey() {
+        return aggregationKey;
+    }
+
+    /**
+     * @return the values this facet is filtered on, empty if the request doesn't filter on it
+     */
+    public List<String> filterValues(RecipeSearchRequest request) {
+        List<String> values = filterValues.apply(request);
+        return values == null ? List.of() : values;
+    }
+}
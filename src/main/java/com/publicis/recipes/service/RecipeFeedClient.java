@@ -0,0 +1,114 @@
+package com.publicis.recipes.service;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.publicis.recipes.dto.ExternalRecipePage;
+import com.publicis.recipes.exception.CustomException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * Fetches single pages of the upstream recipes feed. Each fetch goes through the {@code recipes-api}
+ * instances of the Resilience4j registries, outermost first:
+ * <ul>
+ * <li>retry: transient failures (I/O errors, 5xx answers) are retried per page with exponential backoff,
+ * so a hiccup on one page costs one page of upstream traffic rather than a whole load; a payload that
+ * is not a recipes page ({@link MalformedFeedException}) is not;</li>
+ * <li>circuit breaker: once most recent calls fail, further pages fail fast instead of waiting on a
+ * broken upstream (every retry attempt counts as a call);</li>
+ * <li>rate limiter: keeps the fetch rate within the provider's quota, whatever the fetch concurrency;</li>
+ * <li>bulkhead: bounds the calls in flight, so ingest never holds more than its share of the
+ * connection pool.</li>
+ * </ul>
+ * Their metrics are published under {@code /actuator/metrics/resilience4j.*}.
+ */
+@Component
+public class RecipeFeedClient {
+	private static final Logger logger = LoggerFactory.getLogger(RecipeFeedClient.class);
+
+	static final String UPSTREAM = "recipes-api";
+
+	@Value("${app.external.recipes-url}")
+	private String recipesUrl;
+
+    private final RestTemplate restTemplate;
+    private final RecipeFeedDecoder decoder;
+    private final Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final Bulkhead bulkhead;
+
+    RecipeFeedClient(RestTemplate restTemplate, RecipeFeedDecoder decoder, RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry, RateLimiterRegistry rateLimiterRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.restTemplate = restTemplate;
+        this.decoder = decoder;
+        this.retry = retryRegistry.retry(UPSTREAM);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(UPSTREAM);
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(UPSTREAM);
+        this.bulkhead = bulkheadRegistry.bulkhead(UPSTREAM);
+        this.retry.getEventPublisher().onRetry(event -> logger.warn("Retrying upstream page fetch (attempt {}) in {}ms: {}",
+                event.getNumberOfRetryAttempts() + 1, event.getWaitInterval().toMillis(),
+                event.getLastThrowable() == null ? null : event.getLastThrowable().getMessage()));
+        this.circuitBreaker.getEventPublisher().onStateTransition(event -> logger.warn("Upstream circuit breaker {}",
+                event.getStateTransition()));
+    }
+
+    public ExternalRecipePage fetchPage(int skip, int limit) throws CustomException {
+        String uri = UriComponentsBuilder
+                .fromUriString(recipesUrl)
+                .queryParam("limit", limit)
+                .queryParam("skip", skip)
+                .toUriString();
+
+        logger.debug("Calling external API: {}", uri);
+
+        Callable<ExternalRecipePage> call = () -> restTemplate.execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> decoder.decode(response.getBody()));
+        call = Bulkhead.decorateCallable(bulkhead, call);
+        call = RateLimiter.decorateCallable(rateLimiter, call);
+        call = CircuitBreaker.decorateCallable(circuitBreaker, call);
+
+        ExternalRecipePage page;
+        try {
+            page = retry.executeCallable(call);
+        } catch (CallNotPermittedException | RequestNotPermitted | BulkheadFullException ex) {
+            logger.error("Upstream call at skip={} not permitted: {}", skip, ex.getMessage());
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "External API unavailable, Error: %s".formatted(ex.getLocalizedMessage()));
+        } catch (Exception ex) {
+            logger.error("Failed to fetch data from external API at skip={} : {}", skip, ex.getMessage());
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API, Error: %s".formatted(ex.getLocalizedMessage()));
+        }
+
+        if (page == null || page.getRecipes() == null) {
+            logger.warn("No valid response from external API. Stopping.");
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API");
+        }
+
+        if (page.getMalformedRecords() > 0) {
+            logger.warn("Skipped {} malformed recipes at skip={}", page.getMalformedRecords(), skip);
+        }
+        return page;
+    }
+}
@@ -0,0 +1,200 @@
+package com.publicis.recipes.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicis.recipes.dto.ExternalRecipePage;
+import com.publicis.recipes.model.Recipe;
+
+/**
+ * Decodes an upstream recipes page token by token, straight into {@link Recipe} entities, without
+ * materialising the intermediate {@code Map}/{@code List} tree. A record with a missing id/name or a
+ * field of the wrong type is skipped and counted instead of failing the whole page.
+ * <p>
+ * A body that is not a recipes page at all fails with {@link MalformedFeedException}, which is not
+ * retried. Errors reading the body itself (a dropped connection) stay {@link IOException}s.
+ */
+@Component
+public class RecipeFeedDecoder {
+	private static final Logger logger = LoggerFactory.getLogger(RecipeFeedDecoder.class);
+
+    private final JsonFactory jsonFactory;
+
+    RecipeFeedDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public ExternalRecipePage decode(InputStream body) throws IOException {
+        try {
+            return decodePage(body);
+        } catch (JsonProcessingException ex) {
+            throw new MalformedFeedException("Malformed recipes page: " + ex.getOriginalMessage(), ex);
+        }
+    }
+
+    private ExternalRecipePage decodePage(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object at the root of the recipes page");
+            }
+
+            ExternalRecipePage page = new ExternalRecipePage();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "recipes" -> readRecipes(parser, page);
+                    case "total" -> page.setTotal(parser.getValueAsInt());
+                    case "skip" -> page.setSkip(parser.getValueAsInt());
+                    case "limit" -> page.setLimit(parser.getValueAsInt());
+                    default -> parser.skipChildren();
+                }
+            }
+            return page;
+        }
+    }
+
+    private void readRecipes(JsonParser parser, ExternalRecipePage page) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            page.setRecipes(List.of());
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected 'recipes' to be an array");
+        }
+
+        List<Recipe> recipes = new ArrayList<>();
+        JsonStreamContext arrayContext = parser.getParsingContext();
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            try {
+                recipes.add(readRecipe(parser));
+            } catch (MalformedRecipeException | InputCoercionException ex) {
+                page.setMalformedRecords(page.getMalformedRecords() + 1);
+                logger.warn("Skipping malformed recipe #{} in page: {}", recipes.size() + page.getMalformedRecords(), ex.getMessage());
+                // Fast-forward to the end of the broken element, then carry on with the next one
+                while (parser.getParsingContext() != arrayContext) {
+                    parser.nextToken();
+                }
+            }
+        }
+        page.setRecipes(recipes);
+    }
+
+    private Recipe readRecipe(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new MalformedRecipeException("expected an object but found " + parser.currentToken());
+        }
+
+        Recipe recipe = new Recipe();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> recipe.setId(longValue(parser, field));
+                case "name" -> recipe.setName(text(parser, field));
+                case "cuisine" -> recipe.setCuisine(text(parser, field));
+                case "image" -> recipe.setImage(text(parser, field));
+                case "prepTimeMinutes" -> recipe.setPrepTimeMinutes(intValue(parser, field));
+                case "cookTimeMinutes" -> recipe.setCookTimeMinutes(intValue(parser, field));
+                case "caloriesPerServing" -> recipe.setCaloriesPerServing(intValue(parser, field));
+                case "servings" -> recipe.setServings(intValue(parser, field));
+                case "difficulty" -> recipe.setDifficulty(text(parser, field));
+                case "rating" -> recipe.setRating(doubleValue(parser, field));
+                case "reviewCount" -> recipe.setReviewCount(intValue(parser, field));
+                case "userId" -> recipe.setUserId(longValue(parser, field));
+                case "ingredients" -> recipe.setIngredients(textList(parser, field));
+                case "instructions" -> recipe.setInstructions(textList(parser, field));
+                case "tags" -> recipe.setTags(textList(parser, field));
+                case "mealType" -> recipe.setMealType(textList(parser, field));
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (recipe.getId() == null || recipe.getName() == null) {
+            throw new MalformedRecipeException("recipe without id or name");
+        }
+        recipe.setContentHash(RecipeContentHash.of(recipe));
+        return recipe;
+    }
+
+    private static String text(JsonParser parser, String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> parser.getText();
+            default -> throw malformed(parser, field);
+        };
+    }
+
+    private static Integer intValue(JsonParser parser, String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getIntValue();
+            default -> throw malformed(parser, field);
+        };
+    }
+
+    private static Long longValue(JsonParser parser, String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            case VALUE_STRING -> {
+                try {
+                    yield Long.valueOf(parser.getText());
+                } catch (NumberFormatException e) {
+                    throw malformed(parser, field);
+                }
+            }
+            default -> throw malformed(parser, field);
+        };
+    }
+
+    private static Double doubleValue(JsonParser parser, String field) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            default -> throw malformed(parser, field);
+        };
+    }
+
+    private static List<String> textList(JsonParser parser, String field) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw malformed(parser, field);
+        }
+
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(text(parser, field));
+        }
+        return values;
+    }
+
+    private static MalformedRecipeException malformed(JsonParser parser, String field) {
+        return new MalformedRecipeException("unexpected %s for field '%s'".formatted(parser.currentToken(), field));
+    }
+
+    private static class MalformedRecipeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        MalformedRecipeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,24 +1,59 @@
 package com.publicis.recipes.service;
 
+import com.publicis.recipes.config.CacheConfig;
+import com.publicis.recipes.dto.ExternalRecipePage;
+import com.publicis.recipes.dto.IngredientSearchRequest;
+import com.publicis.recipes.dto.RecipeBatchDTO;
 import com.publicis.recipes.dto.RecipeDTO;
+import com.publicis.recipes.dto.RecipeSearchRequest;
+import com.publicis.recipes.dto.RecipeSummaryDTO;
+import com.publicis.recipes.dto.SearchPage;
 import com.publicis.recipes.exception.CustomException;
+import com.publicis.recipes.model.IngestCheckpoint;
 import com.publicis.recipes.model.Recipe;
+import com.publicis.recipes.repository.IngestCheckpointRepository;
 import com.publicis.recipes.repository.RecipeRepository;
 
-import io.github.resilience4j.retry.annotation.Retry;
 import jakarta.persistence.EntityManager;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
+import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.projection.dsl.CompositeProjectionValueStep;
+import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,130 +63,628 @@ import org.slf4j.LoggerFactory;
 public class RecipeService {
 	private static final Logger logger = LoggerFactory.getLogger(RecipeService.class);
 	
-	@Value("${app.external.recipes-url}")
-	private String recipesUrl;
+	@Value("${app.ingest.mode:FULL}")
+	private IngestMode ingestMode = IngestMode.FULL;
+	
+	@Value("${app.ingest.page-size:30}")
+	private int pageSize = 30;
+	
+	@Value("${app.ingest.fetch-concurrency:1}")
+	private int fetchConcurrency = 1;
+	
+	@Value("${app.ingest.ordered-merge:true}")
+	private boolean orderedMerge = true;
+	
+	@Value("${app.search.facets.max-terms:20}")
+	private int facetMaxTerms = 20;
 	
     private final RecipeRepository recipeRepository;
+    private final IngestCheckpointRepository checkpointRepository;
     private final EntityManager entityManager;
-    private final RestTemplate restTemplate;
+    private final RecipeFeedClient feedClient;
+    private final RecipeBatchWriter recipeBatchWriter;
+    private final CatalogVersion catalogVersion;
+    private final CatalogSnapshot catalogSnapshot;
+    private final RecipeSuggester recipeSuggester;
+    private final SearchQueryStrategy queryStrategy;
+    private final CacheManager cacheManager;
+    private final AsyncTaskExecutor fetchExecutor;
     
-    RecipeService(RecipeRepository recipeRepository, RestTemplate restTemplate, EntityManager entityManager) {
+    RecipeService(RecipeRepository recipeRepository, IngestCheckpointRepository checkpointRepository,
+    		RecipeFeedClient feedClient, RecipeBatchWriter recipeBatchWriter,
+    		CatalogVersion catalogVersion, CatalogSnapshot catalogSnapshot, RecipeSuggester recipeSuggester,
+    		SearchQueryStrategy queryStrategy, CacheManager cacheManager, EntityManager entityManager,
+    		@Qualifier("recipeFetchExecutor") AsyncTaskExecutor fetchExecutor) {
         this.recipeRepository = recipeRepository;
-        this.restTemplate = restTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.feedClient = feedClient;
+        this.recipeBatchWriter = recipeBatchWriter;
+        this.catalogVersion = catalogVersion;
+        this.catalogSnapshot = catalogSnapshot;
+        this.recipeSuggester = recipeSuggester;
+        this.queryStrategy = queryStrategy;
+        this.cacheManager = cacheManager;
         this.entityManager = entityManager;
+        this.fetchExecutor = fetchExecutor;
     }
     
-    @Retry(name = "recipes-api", fallbackMethod = "loadRecipesFallback")
-    public String loadRecipesFromExternal() throws CustomException {
-        logger.info("Loading recipes from external API...");
-
-        int skip = 0;
-        int limit = 30;
-        List<Recipe> allRecipes = new ArrayList<>();
-
-        do {
-        	String uri = UriComponentsBuilder
-        	        .fromUriString(recipesUrl)
-        	        .queryParam("limit", limit)
-        	        .queryParam("skip", skip)
-        	        .toUriString();
-        	
-        	logger.debug("Calling external API: {}", uri);
-        	
-        	Map response;
-        	try {
-        		response = restTemplate.getForObject(uri, Map.class);
-        	} catch (Exception ex) {
-        	    logger.error("Failed to fetch data from external API at skip={} : {}", skip, ex.getMessage());
-        	    throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API, Error: %s".formatted(ex.getLocalizedMessage()));
-        	}
-
-
-            if (response == null || !response.containsKey("recipes")) {
-                logger.warn("No valid response from external API. Stopping.");
-                throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API");
+    /**
+     * Runs a whole load, reporting into {@code progress} as it goes. Called by {@link LoadJobService}
+     * on the load executor rather than on a request thread. Failed page fetches are retried by
+     * {@link RecipeFeedClient}; a load that fails anyway leaves its checkpoint behind (see
+     * {@link IngestMode#isResumable()}) and the next load continues from there.
+     * <p>
+     * Whenever rows were written or deleted, also by a load that failed after committing some pages,
+     * the recipe and search caches are cleared and the catalog generation is bumped.
+     */
+    public String loadRecipesFromExternal(LoadProgress progress) throws CustomException {
+        logger.info("Loading recipes from external API (mode={}, pageSize={}, concurrency={})...",
+                ingestMode, pageSize, fetchConcurrency);
+
+        LoadRun run = new LoadRun(progress);
+        try {
+            String result = load(run);
+            checkpointRepository.deleteById(IngestCheckpoint.RECIPES_FEED);
+            if (run.catalogChanged()) {
+                catalogSnapshot.save();
+            }
+            return result;
+        } finally {
+            if (run.catalogChanged()) {
+                // Suggestions first, so nothing is served or cached under the new generation from the old catalog
+                try {
+                    recipeSuggester.rebuild();
+                } finally {
+                    clearCatalogCaches();
+                    logger.info("Catalog changed, now at generation {}", catalogVersion.bump());
+                }
+            }
+        }
+    }
+
+    private void clearCatalogCaches() {
+        for (String cacheName : List.of(CacheConfig.RECIPES_CACHE, CacheConfig.SEARCH_CACHE)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
             }
+        }
+    }
+
+    private String load(LoadRun run) throws CustomException {
+        LoadProgress progress = run.progress;
+        progress.phase(LoadPhase.FETCHING);
+
+        int startSkip = resumeSkip();
+        run.startAt(startSkip);
+        progress.resumedAt(startSkip);
+
+        ExternalRecipePage page = feedClient.fetchPage(startSkip, pageSize);
+
+        if (fetchConcurrency > 1 && page.getTotal() > startSkip + pageSize) {
+            acceptPage(page, startSkip, run);
+            fetchRemainingConcurrently(startSkip + pageSize, page.getTotal(), run);
+        } else {
+            int skip = startSkip;
+            do {
+                List<Recipe> batch = page.getRecipes();
+                // The end of the feed follows from what upstream sent, including the records the decoder dropped
+                int records = batch.size() + page.getMalformedRecords();
+
+                if (records == 0) {
+                    logger.info("No more recipes found. Ending fetch.");
+                    break;
+                }
+
+                acceptPage(page, skip, run);
+
+                skip += pageSize;
 
-            List<Map<String, Object>> recipes = (List<Map<String, Object>>) response.get("recipes");
+                if (records < pageSize) {
+                    logger.info("Last batch detected ({} < {}), ending fetch.", records, pageSize);
+                    break;
+                }
 
-            if (recipes == null || recipes.isEmpty()) {
-                logger.info("No more recipes found. Ending fetch.");
-                break;
+                page = feedClient.fetchPage(skip, pageSize);
+            } while (true);
+        }
+
+        if (ingestMode == IngestMode.DELTA) {
+            if (startSkip > 0) {
+                // The ids of the pages committed before the interruption were not seen by this run
+                logger.info("Resumed load, skipping the deletion of recipes missing upstream until the next complete load");
+            } else if (!run.fetchedWholeFeed()) {
+                // A dropped or unfetched record is not a deleted one
+                logger.warn("Incomplete fetch ({} of {} records, {} malformed), skipping the deletion of recipes missing upstream",
+                        run.recordsFetched, run.upstreamTotal, run.malformedRecords);
+            } else {
+                deleteRecipesMissingUpstream(run);
             }
+        }
+
+        if (ingestMode == IngestMode.SHADOW) {
+            swapInCatalog(run);
+        }
 
-            List<Recipe> batch = recipes.stream().map(r -> {
-            	Recipe recipe = new Recipe();
-                recipe.setId(Long.valueOf(r.get("id").toString()));
-                recipe.setName(r.get("name").toString());
-                recipe.setCuisine(r.get("cuisine").toString());
-                recipe.setImage(r.get("image").toString());
-                recipe.setPrepTimeMinutes((Integer) r.get("prepTimeMinutes"));
-                recipe.setCookTimeMinutes((Integer) r.get("cookTimeMinutes"));
-                recipe.setCaloriesPerServing((Integer) r.get("caloriesPerServing"));
-                recipe.setServings((Integer) r.get("servings"));
-                recipe.setDifficulty((String) r.get("difficulty"));
-                recipe.setRating(Double.valueOf(r.get("rating").toString()));
-                recipe.setReviewCount((Integer) r.get("reviewCount"));
-                recipe.setUserId(Long.valueOf(r.get("userId").toString()));
-                recipe.setIngredients((List<String>) r.get("ingredients"));
-                recipe.setInstructions((List<String>) r.get("instructions"));
-                recipe.setTags((List<String>) r.get("tags"));
-                recipe.setMealType((List<String>) r.get("mealType"));
-                return recipe;
-            }).toList();
-
-            allRecipes.addAll(batch);
-            logger.info("Fetched {} recipes (total so far: {})", batch.size(), allRecipes.size());
-
-            skip += limit;
-            
-            if (batch.size() < limit) {
-                logger.info("Last batch detected ({} < {}), ending fetch.", batch.size(), limit);
-                break;
+        if (ingestMode == IngestMode.FULL) {
+            List<Recipe> allRecipes = run.pendingRecipes;
+            progress.phase(LoadPhase.WRITING);
+            recipeBatchWriter.saveWithoutIndexing(allRecipes);
+            progress.recipesWritten(allRecipes.size());
+            logger.info("Successfully loaded {} recipes into H2 DB", allRecipes.size());
+
+            // Rebuild Lucene index
+            progress.phase(LoadPhase.INDEXING);
+            SearchSession searchSession = Search.session(entityManager);
+            try {
+                MassIndexer massIndexer = searchSession.massIndexer();
+                massIndexer.monitor(progress.indexingMonitor());
+                massIndexer.startAndWait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Recipe load interrupted while indexing");
             }
+        }
 
-        } while (true);
+        logger.info("Recipe load finished ({})", progress);
+        return "Recipes loaded successfully: " + progress.getRecipesFetched();
+    }
+
+    /**
+     * Fetches every page after the first one on {@code recipeFetchExecutor}, keeping at most
+     * {@code fetchConcurrency} requests in flight. Pages are handed to the persistence stage on the
+     * calling thread, either in {@code skip} order or as soon as they arrive.
+     */
+    private void fetchRemainingConcurrently(int firstSkip, int total, LoadRun run) throws CustomException {
+        CompletionService<ExternalRecipePage> completionService = new ExecutorCompletionService<>(fetchExecutor);
+        Deque<Future<ExternalRecipePage>> pending = new ArrayDeque<>();
+        int nextSkip = firstSkip;
 
-        recipeRepository.saveAll(allRecipes);
-        logger.info("Successfully loaded {} recipes into H2 DB", allRecipes.size());
-        
-        // Rebuild Lucene index
-        SearchSession searchSession = Search.session(entityManager);
         try {
-			searchSession.massIndexer().startAndWait();
-		} catch (InterruptedException e) {
-			e.printStackTrace();
-		}
+            while (nextSkip < total || !pending.isEmpty()) {
+                while (nextSkip < total && pending.size() < fetchConcurrency) {
+                    int skip = nextSkip;
+                    Callable<ExternalRecipePage> fetch = () -> {
+                        ExternalRecipePage fetched = feedClient.fetchPage(skip, pageSize);
+                        fetched.setSkip(skip);
+                        return fetched;
+                    };
+                    pending.add(orderedMerge ? fetchExecutor.submit(fetch) : completionService.submit(fetch));
+                    nextSkip += pageSize;
+                }
+
+                Future<ExternalRecipePage> done = orderedMerge ? pending.peek() : completionService.take();
+                ExternalRecipePage page = done.get();
+                pending.remove(done);
 
-        return "Recipes loaded successfully: " + allRecipes.size();
+                acceptPage(page, page.getSkip(), run);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Recipe load interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API, Error: %s".formatted(e.getCause().getLocalizedMessage()));
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
     }
-    
-    public String loadRecipesFallback(Throwable ex) {
-        logger.error("Fallback triggered due to error: {}", ex.getMessage());
-        return "Failed to load recipes. Please try again later.";
+
+    private void acceptPage(ExternalRecipePage page, int skip, LoadRun run) {
+        List<Recipe> batch = page.getRecipes();
+        run.progress.pageFetched(batch.size());
+        run.pageFetched(page);
+
+        switch (ingestMode) {
+            case STREAMING -> writePage(batch, run.progress);
+            case DELTA -> writeChangedRecipes(batch, run);
+            // FULL and SHADOW stage the whole catalog before writing anything
+            default -> run.pendingRecipes.addAll(batch);
+        }
+        if (ingestMode.isResumable() && run.pageCommitted(skip, pageSize)) {
+            checkpointRepository.save(new IngestCheckpoint(IngestCheckpoint.RECIPES_FEED, ingestMode.name(), pageSize, run.nextSkip));
+        }
+        logger.info("Fetched {} recipes ({})", batch.size(), run.progress);
+    }
+
+    /**
+     * Where to start fetching: after the pages a previous, unfinished load of the same mode and page
+     * size already committed, otherwise at the beginning.
+     */
+    private int resumeSkip() {
+        if (!ingestMode.isResumable()) {
+            return 0;
+        }
+        return checkpointRepository.findById(IngestCheckpoint.RECIPES_FEED)
+                .filter(checkpoint -> ingestMode.name().equals(checkpoint.getMode()) && checkpoint.getPageSize() == pageSize)
+                .map(checkpoint -> {
+                    logger.info("Resuming unfinished load at skip={} (checkpoint of {})", checkpoint.getNextSkip(), checkpoint.getUpdatedAt());
+                    return checkpoint.getNextSkip();
+                })
+                .orElse(0);
+    }
+
+    /**
+     * Saves one page in its own transaction. Hibernate Search indexes the page on commit, so it is
+     * searchable straight away, and the batch writer clears the persistence context behind it.
+     */
+    private void writePage(List<Recipe> batch, LoadProgress progress) {
+        recipeBatchWriter.save(batch);
+        progress.recipesWritten(batch.size());
+    }
+
+    /**
+     * Compares the page against the stored content hashes (one query per page) and saves only new or
+     * changed recipes. Hibernate Search then reindexes exactly those documents on commit.
+     */
+    private void writeChangedRecipes(List<Recipe> batch, LoadRun run) {
+        List<Long> ids = batch.stream().map(Recipe::getId).toList();
+        run.seenIds.addAll(ids);
+
+        Map<Long, String> storedHashes = new HashMap<>();
+        for (RecipeRepository.ContentHashView stored : recipeRepository.findContentHashesByIdIn(ids)) {
+            storedHashes.put(stored.getId(), stored.getContentHash());
+        }
+
+        List<Recipe> changed = batch.stream()
+                .filter(recipe -> !recipe.getContentHash().equals(storedHashes.get(recipe.getId())))
+                .toList();
+
+        run.progress.recipesUnchanged(batch.size() - changed.size());
+        if (!changed.isEmpty()) {
+            writePage(changed, run.progress);
+        }
+    }
+
+    /**
+     * SHADOW mode: the fetched catalog has been staged in memory while readers kept using the current
+     * one. Diffs it against the stored content hashes and applies every upsert and deletion in a single
+     * transaction, so H2 readers switch from the old to the new catalog at commit and the index picks up
+     * all document changes in one indexing plan right after; nothing is purged and rebuilt. Recipes
+     * missing from the staged catalog are only deleted when the whole feed was fetched and decoded.
+     */
+    private void swapInCatalog(LoadRun run) throws CustomException {
+        Map<Long, Recipe> staged = new LinkedHashMap<>();
+        for (Recipe recipe : run.pendingRecipes) {
+            staged.put(recipe.getId(), recipe);
+        }
+        if (staged.isEmpty()) {
+            // An empty upstream answer would otherwise replace the catalog with nothing
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "External API returned no recipes, keeping the current catalog");
+        }
+
+        run.progress.phase(LoadPhase.WRITING);
+        Map<Long, String> storedHashes = new HashMap<>();
+        for (RecipeRepository.ContentHashView stored : recipeRepository.findAllContentHashes()) {
+            storedHashes.put(stored.getId(), stored.getContentHash());
+        }
+
+        List<Recipe> changed = staged.values().stream()
+                .filter(recipe -> !recipe.getContentHash().equals(storedHashes.get(recipe.getId())))
+                .toList();
+        List<Long> staleIds = List.of();
+        if (run.fetchedWholeFeed()) {
+            staleIds = storedHashes.keySet().stream()
+                    .filter(id -> !staged.containsKey(id))
+                    .toList();
+        } else {
+            // A dropped or unfetched record is not a deleted one
+            logger.warn("Incomplete fetch ({} of {} records, {} malformed), keeping recipes missing from the staged catalog",
+                    run.recordsFetched, run.upstreamTotal, run.malformedRecords);
+        }
+
+        recipeBatchWriter.replace(changed, staleIds);
+        run.progress.recipesWritten(changed.size());
+        run.progress.recipesUnchanged(staged.size() - changed.size());
+        run.progress.recipesDeleted(staleIds.size());
+        logger.info("Swapped in staged catalog: {} written, {} unchanged, {} deleted",
+                changed.size(), staged.size() - changed.size(), staleIds.size());
+    }
+
+    /**
+     * Removes recipes that no longer exist upstream. Entities are deleted one by one (not in bulk) so
+     * their element collections and index documents go with them.
+     */
+    private void deleteRecipesMissingUpstream(LoadRun run) {
+        List<Long> staleIds = recipeRepository.findAllIds().stream()
+                .filter(id -> !run.seenIds.contains(id))
+                .toList();
+
+        if (!staleIds.isEmpty()) {
+            recipeRepository.deleteAllById(staleIds);
+            run.progress.recipesDeleted(staleIds.size());
+            logger.info("Deleted {} recipes no longer present upstream", staleIds.size());
+        }
     }
 
-    public List<RecipeDTO> searchRecipes(String query) {
-        logger.info("Performing full-text search for query: {}", query);
+    @Cacheable(cacheNames = CacheConfig.SEARCH_CACHE, keyGenerator = "searchCacheKeyGenerator")
+    public SearchPage<RecipeDTO> searchRecipes(RecipeSearchRequest request) throws CustomException {
+        logger.info("Performing full-text search for query: {}", request.getQuery());
 
+        Long afterId = afterId(request);
         SearchSession searchSession = Search.session(entityManager);
         
-        List<Recipe> recipes = searchSession.search(Recipe.class)
-                .where(f -> f.bool()
-                        .should(f.match().field("name").matching(query).fuzzy(2))
-                        .should(f.match().field("cuisine").matching(query).fuzzy(2))
-                )
-                .fetchHits(20);
+        FetchedPage<Recipe> fetched = fetchPageWithFallback(fuzzy -> searchSession.search(Recipe.class)
+                .where(f -> matching(f, request, afterId, fuzzy)), request, afterId);
         
         List<RecipeDTO> responseList = new ArrayList<>();
-        for(Recipe recipe: recipes) {
+        for(Recipe recipe: fetched.result().hits()) {
         	RecipeDTO recipeDTO = new RecipeDTO(recipe);
 	        responseList.add(recipeDTO);
         }
         
-        return responseList;
+        return toPage(responseList, fetched, request, RecipeDTO::getId);
+    }
+
+    /**
+     * Same matching as {@link #searchRecipes(RecipeSearchRequest)}, but every field of the result comes
+     * from index projections: no entity is loaded and H2 is not touched.
+     */
+    @Cacheable(cacheNames = CacheConfig.SEARCH_CACHE, keyGenerator = "searchCacheKeyGenerator")
+    public SearchPage<RecipeSummaryDTO> searchRecipeSummaries(RecipeSearchRequest request) throws CustomException {
+        logger.info("Performing projection-only search for query: {}", request.getQuery());
+
+        Long afterId = afterId(request);
+        SearchSession searchSession = Search.session(entityManager);
+
+        FetchedPage<RecipeSummaryDTO> fetched = fetchPageWithFallback(fuzzy -> searchSession.search(Recipe.class)
+                .select(RecipeService::summary)
+                .where(f -> matching(f, request, afterId, fuzzy)), request, afterId);
+
+        return toPage(fetched.result().hits(), fetched, request, RecipeSummaryDTO::getId);
     }
 
+    /**
+     * Summary hits plus term counts for every {@link RecipeFacet}, computed by Lucene in the same pass
+     * over the matching documents. The counts reflect the filters of the request.
+     */
+    @Cacheable(cacheNames = CacheConfig.SEARCH_CACHE, keyGenerator = "searchCacheKeyGenerator")
+    public SearchPage<RecipeSummaryDTO> searchRecipeFacets(RecipeSearchRequest request) throws CustomException {
+        logger.info("Performing faceted search for query: {}", request.getQuery());
+
+        Long afterId = afterId(request);
+        SearchSession searchSession = Search.session(entityManager);
+
+        FetchedPage<RecipeSummaryDTO> fetched = fetchPageWithFallback(fuzzy -> {
+            var query = searchSession.search(Recipe.class)
+                    .select(RecipeService::summary)
+                    .where(f -> matching(f, request, afterId, fuzzy));
+            for (RecipeFacet facet : RecipeFacet.values()) {
+                query.aggregation(facet.getAggregationKey(), f -> f.terms()
+                        .field(facet.getIndexField(), String.class)
+                        .maxTermCount(facetMaxTerms));
+            }
+            return query;
+        }, request, afterId);
+        SearchResult<RecipeSummaryDTO> result = fetched.result();
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        for (RecipeFacet facet : RecipeFacet.values()) {
+            facets.put(facet.getName(), result.aggregation(facet.getAggregationKey()));
+        }
+
+        SearchPage<RecipeSummaryDTO> page = toPage(result.hits(), fetched, request, RecipeSummaryDTO::getId);
+        page.setFacets(facets);
+        return page;
+    }
+
+    /**
+     * Recipes by ingredients, ranked by coverage. Each requested ingredient is a constant-score phrase
+     * clause on the {@code ingredient}-analyzed field, so a hit's score is the number of requested
+     * ingredients it contains; ties go to the better rated recipe. Only the inverted index entries of
+     * the requested ingredients are visited, whatever the catalog size.
+     */
+    @Cacheable(cacheNames = CacheConfig.SEARCH_CACHE, keyGenerator = "searchCacheKeyGenerator")
+    public SearchPage<RecipeSummaryDTO> searchByIngredients(IngredientSearchRequest request) throws CustomException {
+        List<String> ingredients = request.getIngredients().stream()
+                .map(String::trim)
+                .filter(ingredient -> !ingredient.isEmpty())
+                .distinct()
+                .toList();
+        if (ingredients.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "At least one ingredient is required");
+        }
+        logger.info("Performing ingredient search for: {}", ingredients);
+
+        int minimumShouldMatch = request.getMinimumShouldMatch() != null
+                ? Math.min(request.getMinimumShouldMatch(), ingredients.size())
+                : "any".equals(request.getMatch()) ? 1 : ingredients.size();
+
+        Long afterId = afterId(request);
+        SearchSession searchSession = Search.session(entityManager);
+
+        var query = searchSession.search(Recipe.class)
+                .select(f -> f.composite()
+                        .from(summary(f), f.score())
+                        .as((summary, score) -> {
+                            summary.setMatchedIngredients(Math.round(score));
+                            return summary;
+                        }))
+                .where(f -> {
+                    var coverage = f.bool();
+                    for (String ingredient : ingredients) {
+                        coverage.should(f.phrase().field("ingredients").matching(ingredient).constantScore());
+                    }
+                    var predicate = f.bool().must(coverage.minimumShouldMatchNumber(minimumShouldMatch));
+                    if (hasText(request.getQuery())) {
+                        predicate.filter(queryStrategy.exact(f, request.getQuery()));
+                    }
+                    addFilters(predicate, f, request, afterId);
+                    return predicate;
+                });
+        if (request.getCursor() == null && RecipeSort.parse(request.getSort()).isEmpty()) {
+            query.sort(f -> f.score().then().field("rating").desc().missing().last());
+        }
+        SearchResult<RecipeSummaryDTO> result = fetchPage(query, request, afterId);
+
+        return toPage(result.hits(), new FetchedPage<>(result, false), request, RecipeSummaryDTO::getId);
+    }
+
+    private static CompositeProjectionValueStep<?, RecipeSummaryDTO> summary(SearchProjectionFactory<?, ?> f) {
+        return f.composite()
+                .from(f.id(Long.class),
+                        f.field("name", String.class),
+                        f.field("cuisine", String.class),
+                        f.field("image", String.class),
+                        f.field("rating", Double.class),
+                        f.field("difficulty", String.class))
+                .asList(values -> new RecipeSummaryDTO(
+                        (Long) values.get(0),
+                        (String) values.get(1),
+                        (String) values.get(2),
+                        (String) values.get(3),
+                        (Double) values.get(4),
+                        (String) values.get(5)));
+    }
+
+    /**
+     * Text match (or every recipe when there is no query), with the facet filters and the cursor
+     * position as non-scoring filter clauses.
+     */
+    private PredicateFinalStep matching(SearchPredicateFactory f, RecipeSearchRequest request, Long afterId, boolean fuzzy) {
+        String query = request.getQuery();
+        PredicateFinalStep text;
+        if (!hasText(query)) {
+            text = f.matchAll();
+        } else {
+            text = fuzzy ? queryStrategy.fuzzy(f, query) : queryStrategy.exact(f, query);
+        }
+        var predicate = f.bool().must(text);
+        addFilters(predicate, f, request, afterId);
+        return predicate;
+    }
+
+    private static boolean hasText(String query) {
+        return query != null && !query.isBlank();
+    }
+
+    private static void addFilters(BooleanPredicateClausesStep<?> predicate, SearchPredicateFactory f, RecipeSearchRequest request, Long afterId) {
+        for (RecipeFacet facet : RecipeFacet.values()) {
+            List<String> values = facet.filterValues(request);
+            if (!values.isEmpty()) {
+                predicate.filter(f.terms().field(facet.getIndexField()).matchingAny(values));
+            }
+        }
+        range(predicate, f, "prepTimeMinutes", request.getMinPrepTimeMinutes(), request.getMaxPrepTimeMinutes());
+        range(predicate, f, "cookTimeMinutes", request.getMinCookTimeMinutes(), request.getMaxCookTimeMinutes());
+        range(predicate, f, "caloriesPerServing", request.getMinCaloriesPerServing(), request.getMaxCaloriesPerServing());
+        range(predicate, f, "rating", request.getMinRating(), request.getMaxRating());
+        range(predicate, f, "reviewCount", request.getMinReviewCount(), request.getMaxReviewCount());
+        if (afterId != null) {
+            predicate.filter(f.range().field(Recipe.ID_SORT_FIELD).greaterThan(afterId));
+        }
+    }
+
+    /**
+     * Inclusive range filter, evaluated on the field's points index; a {@code null} bound is open.
+     */
+    private static void range(BooleanPredicateClausesStep<?> predicate, SearchPredicateFactory f, String field, Object min, Object max) {
+        if (min != null || max != null) {
+            predicate.filter(f.range().field(field).between(min, max));
+        }
+    }
+
+    /**
+     * Checks the sort and cursor parameters before any search work and returns the id to continue
+     * after in cursor mode.
+     */
+    private static Long afterId(RecipeSearchRequest request) throws CustomException {
+        List<RecipeSort> sort = RecipeSort.parse(request.getSort());
+        if (request.getCursor() == null) {
+            return null;
+        }
+        if (!sort.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "Cursor paging walks recipes in id order and cannot be combined with sort");
+        }
+        return SearchCursor.decode(request.getCursor());
+    }
+
+    /**
+     * Fetches the page with the exact text predicate and, if that matches too few recipes, once more
+     * with fuzzy matching (see {@link SearchQueryStrategy}). The hit count is only meaningful for that
+     * decision without a cursor position, so later pages of a cursor walk keep the choice made on its
+     * first page, which travels in the cursor.
+     */
+    private <H> FetchedPage<H> fetchPageWithFallback(Function<Boolean, SearchQueryOptionsStep<?, H, ?, ?, ?>> queryFor,
+            RecipeSearchRequest request, Long afterId) throws CustomException {
+        if (afterId != null) {
+            boolean fuzzy = SearchCursor.isFuzzy(request.getCursor());
+            return new FetchedPage<>(fetchPage(queryFor.apply(fuzzy), request, afterId), fuzzy);
+        }
+
+        Integer countThreshold = request.getCountLimit();
+        if (countThreshold != null && hasText(request.getQuery())) {
+            // The decision needs the exact hits counted up to min-exact-hits, even under a lower countLimit
+            countThreshold = Math.max(countThreshold, queryStrategy.getFuzzyMinExactHits());
+        }
+        SearchResult<H> result = fetchPage(queryFor.apply(false), request, afterId, countThreshold);
+        if (hasText(request.getQuery()) && queryStrategy.needsFuzzyFallback(result.total().hitCountLowerBound())) {
+            logger.debug("Too few exact hits for '{}', retrying with fuzzy matching", request.getQuery());
+            return new FetchedPage<>(fetchPage(queryFor.apply(true), request, afterId), true);
+        }
+        return new FetchedPage<>(result, false);
+    }
+
+    /**
+     * A page of hits and whether it was matched fuzzily.
+     */
+    private record FetchedPage<H>(SearchResult<H> result, boolean fuzzy) {
+    }
+
+    /**
+     * Page mode skips {@code page * size} hits in relevance order. Cursor mode sorts by id and lets the
+     * range filter from {@link #matching} do the skipping, so deep pages stay as cheap as the first one.
+     * An explicit {@code sort} is served from doc values, with score and id as tie-breakers so pages
+     * stay stable.
+     */
+    private static <H> SearchResult<H> fetchPage(SearchQueryOptionsStep<?, H, ?, ?, ?> query, RecipeSearchRequest request, Long afterId) throws CustomException {
+        return fetchPage(query, request, afterId, request.getCountLimit());
+    }
+
+    private static <H> SearchResult<H> fetchPage(SearchQueryOptionsStep<?, H, ?, ?, ?> query, RecipeSearchRequest request, Long afterId,
+            Integer countThreshold) throws CustomException {
+        if (countThreshold != null) {
+            query.totalHitCountThreshold(countThreshold);
+        }
+        if (request.getCursor() != null) {
+            return query.sort(f -> f.field(Recipe.ID_SORT_FIELD)).fetch(request.getSize());
+        }
+
+        List<RecipeSort> sort = RecipeSort.parse(request.getSort());
+        if (!sort.isEmpty()) {
+            query.sort(f -> {
+                var composite = f.composite();
+                for (RecipeSort key : sort) {
+                    var field = f.field(key.field());
+                    composite.add((key.descending() ? field.desc() : field.asc()).missing().last());
+                }
+                return composite.add(f.score()).add(f.field(Recipe.ID_SORT_FIELD));
+            });
+        }
+        int offset;
+        try {
+            // Lucene collects offset + size hits, so both must fit in an int
+            offset = Math.multiplyExact(request.getPage(), request.getSize());
+            Math.addExact(offset, request.getSize());
+        } catch (ArithmeticException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST,
+                    "Page %d is out of range, use cursor=* to page this deep".formatted(request.getPage()));
+        }
+        return query.fetch(offset, request.getSize());
+    }
+
+    private static <T> SearchPage<T> toPage(List<T> items, FetchedPage<?> fetched, RecipeSearchRequest request, Function<T, Long> idOf) {
+        String nextCursor = null;
+        if (request.getCursor() != null && items.size() == request.getSize()) {
+            nextCursor = SearchCursor.encode(idOf.apply(items.get(items.size() - 1)), fetched.fuzzy());
+        }
+        SearchResultTotal total = fetched.result().total();
+        return new SearchPage<>(items, total.hitCountLowerBound(), total.isHitCountExact(), nextCursor);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.RECIPES_CACHE, key = "#id")
     public RecipeDTO getById(Long id) throws CustomException {
     	Recipe recipe = recipeRepository.findById(id)
                 .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, "Recipe not found with id: " + id));
@@ -160,27 +693,78 @@ public class RecipeService {
     	return recipeDTO;
     }
 
-	public List<RecipeDTO> searchRecipesHighlight(String query) {
-		logger.info("Performing full-text search with highlighting for query: {}", query);
+    /**
+     * The content hash of a recipe, for answering conditional requests without mapping it: taken from
+     * the recipes cache when that holds the recipe, otherwise read with a single-column select that
+     * loads neither the recipe nor its collections. {@code null} if there is no such recipe.
+     */
+    public String getContentHash(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.RECIPES_CACHE);
+        RecipeDTO cached = cache == null ? null : cache.get(id, RecipeDTO.class);
+        if (cached != null) {
+            return cached.getContentHash();
+        }
+        return recipeRepository.findContentHashById(id);
+    }
+
+    /**
+     * Resolves up to {@link Recipe#COLLECTION_BATCH_SIZE} ids with one select for the recipes plus one
+     * per element collection (see {@code @BatchSize} on {@link Recipe}), instead of a {@link #getById}
+     * round trip per id. Duplicate ids are returned once; unknown ids are listed in {@code missingIds}.
+     */
+    @Transactional(readOnly = true)
+    public RecipeBatchDTO getByIds(List<Long> ids) throws CustomException {
+        Set<Long> requested = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                requested.add(id);
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "At least one recipe id is required");
+        }
+        if (requested.size() > Recipe.COLLECTION_BATCH_SIZE) {
+            throw new CustomException(HttpStatus.BAD_REQUEST,
+                    "At most %d recipe ids can be requested at once".formatted(Recipe.COLLECTION_BATCH_SIZE));
+        }
 
+        Map<Long, Recipe> found = new HashMap<>();
+        for (Recipe recipe : recipeRepository.findAllById(requested)) {
+            found.put(recipe.getId(), recipe);
+        }
+
+        List<RecipeDTO> recipes = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            Recipe recipe = found.get(id);
+            if (recipe != null) {
+                recipes.add(new RecipeDTO(recipe));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new RecipeBatchDTO(recipes, missingIds);
+    }
+
+	@Cacheable(cacheNames = CacheConfig.SEARCH_CACHE, keyGenerator = "searchCacheKeyGenerator")
+	public SearchPage<RecipeDTO> searchRecipesHighlight(RecipeSearchRequest request) throws CustomException {
+		logger.info("Performing full-text search with highlighting for query: {}", request.getQuery());
+
+	    Long afterId = afterId(request);
 	    SearchSession searchSession = Search.session(entityManager);
 
-	    var result = searchSession.search(Recipe.class)
+	    FetchedPage<List<?>> fetched = fetchPageWithFallback(fuzzy -> searchSession.search(Recipe.class)
 	            .select(f -> f.composite(
 	                    f.entity(),
 	                    f.highlight("name"),
 	                    f.highlight("cuisine")
 	            ))
-	            .where(f -> f.bool()
-	                    .should(f.match().field("name").matching(query).fuzzy(2))
-	                    .should(f.match().field("cuisine").matching(query).fuzzy(2))
-	            )
-	            .highlighter("html", f -> f.unified())
-	            .fetchHits(20);
+	            .where(f -> matching(f, request, afterId, fuzzy))
+	            .highlighter("html", f -> f.unified()), request, afterId);
 	    
 	    List<RecipeDTO> responseList = new ArrayList<>();
 
-	    for (List<?> hit : result) {
+	    for (List<?> hit : fetched.result().hits()) {
 	        Recipe recipe = (Recipe) hit.get(0);
 	        List<String> nameHighlights = (List<String>) hit.get(1);
 	        List<String> cuisineHighlights = (List<String>) hit.get(2);
@@ -198,7 +782,67 @@ public class RecipeService {
 	        responseList.add(recipeDTO);
 	    }
 
-	    logger.info("Found {} results for query '{}'", responseList.size(), query);
-	    return responseList;
+	    logger.info("Found {} results for query '{}'", responseList.size(), request.getQuery());
+	    return toPage(responseList, fetched, request, RecipeDTO::getId);
+	}
+
+	/**
+	 * Per-call state of {@link #loadRecipesFromExternal(LoadProgress)}.
+	 */
+	private static final class LoadRun {
+		private final LoadProgress progress;
+		// FULL/SHADOW: the whole catalog, saved once fetching is done
+		private final List<Recipe> pendingRecipes = new ArrayList<>();
+		// DELTA: ids still present upstream, used to find deletions
+		private final Set<Long> seenIds = new HashSet<>();
+		// Records upstream sent (malformed ones included) against the total it announced
+		private int recordsFetched;
+		private int malformedRecords;
+		private int upstreamTotal;
+
+		// Every page below nextSkip is committed; pages committed out of order wait in committedAhead
+		private int nextSkip;
+		private final Set<Integer> committedAhead = new TreeSet<>();
+
+		LoadRun(LoadProgress progress) {
+			this.progress = progress;
+		}
+
+		boolean catalogChanged() {
+			return progress.getRecipesWritten() > 0 || progress.getRecipesDeleted() > 0;
+		}
+
+		void startAt(int skip) {
+			nextSkip = skip;
+		}
+
+		void pageFetched(ExternalRecipePage page) {
+			recordsFetched += page.getRecipes().size() + page.getMalformedRecords();
+			malformedRecords += page.getMalformedRecords();
+			upstreamTotal = Math.max(upstreamTotal, page.getTotal());
+		}
+
+		/**
+		 * Whether every upstream record was fetched and decoded, so a stored recipe missing from this
+		 * run is really gone upstream rather than dropped or never reached.
+		 */
+		boolean fetchedWholeFeed() {
+			return malformedRecords == 0 && recordsFetched >= upstreamTotal;
+		}
+
+		/**
+		 * Records a committed page and reports whether {@code nextSkip} moved.
+		 */
+		boolean pageCommitted(int skip, int pageSize) {
+			if (skip != nextSkip) {
+				committedAhead.add(skip);
+				return false;
+			}
+			nextSkip += pageSize;
+			while (committedAhead.remove(nextSkip)) {
+				nextSkip += pageSize;
+			}
+			return true;
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.publicis.recipes.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+
+import com.publicis.recipes.exception.CustomException;
+
+/**
+ * One key of the {@code sort} search parameter: a sortable numeric field, descending when prefixed
+ * with {@code -} (e.g. {@code sort=-rating,prepTimeMinutes}).
+ */
+record RecipeSort(String field, boolean descending) {
+
+    static final Set<String> FIELDS = Set.of("rating", "reviewCount", "prepTimeMinutes", "cookTimeMinutes", "caloriesPerServing");
+
+    static List<RecipeSort> parse(List<String> sort) throws CustomException {
+        List<RecipeSort> keys = new ArrayList<>();
+        if (sort == null) {
+            return keys;
+        }
+        for (String key : sort) {
+            boolean descending = key.startsWith("-");
+            String field = descending ? key.substring(1) : key;
+            if (field.isBlank() || "relevance".equals(field)) {
+                continue;
+            }
+            if (!FIELDS.contains(field)) {
+                throw new CustomException(HttpStatus.BAD_REQUEST, "Cannot sort by '%s', sortable fields are %s".formatted(field, FIELDS));
+            }
+            keys.add(new RecipeSort(field, descending));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,67 @@
+package com.publicis.recipes.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.publicis.recipes.dto.SuggestionDTO;
+import com.publicis.recipes.repository.RecipeRepository;
+
+/**
+ * Typeahead over recipe names, cuisines and tags, served from an in-memory {@link SuggestionIndex}
+ * that is rebuilt from the DB at startup and after every load that changed the catalog.
+ * <p>
+ * Recipes weigh {@code rating * ln(2 + reviewCount)}; a cuisine or tag weighs like a top-rated recipe
+ * with one review per recipe carrying it.
+ */
+@Component
+public class RecipeSuggester {
+	private static final Logger logger = LoggerFactory.getLogger(RecipeSuggester.class);
+
+	private static final double MAX_RATING = 5.0;
+
+	@Value("${app.suggest.max-limit:20}")
+	private int maxLimit = 20;
+
+    private final RecipeRepository recipeRepository;
+
+    private volatile SuggestionIndex index = SuggestionIndex.EMPTY;
+
+    RecipeSuggester(RecipeRepository recipeRepository) {
+        this.recipeRepository = recipeRepository;
+    }
+
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return index.suggest(prefix, Math.min(limit, maxLimit));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(SearchIndexVerifier.ORDER + 10)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        SuggestionIndex.Builder builder = SuggestionIndex.builder().precomputedLimit(maxLimit);
+        for (RecipeRepository.SuggestionSourceView recipe : recipeRepository.findSuggestionSources()) {
+            double rating = recipe.getRating() == null ? 0 : recipe.getRating();
+            int reviews = recipe.getReviewCount() == null ? 0 : recipe.getReviewCount();
+            builder.add(recipe.getName(), "recipe", recipe.getId(), rating * Math.log(2 + reviews));
+        }
+        for (RecipeRepository.TermCountView cuisine : recipeRepository.countRecipesByCuisine()) {
+            builder.add(cuisine.getTerm(), "cuisine", null, MAX_RATING * Math.log(2 + cuisine.getRecipes()));
+        }
+        for (RecipeRepository.TermCountView tag : recipeRepository.countRecipesByTag()) {
+            builder.add(tag.getTerm(), "tag", null, MAX_RATING * Math.log(2 + tag.getRecipes()));
+        }
+
+        SuggestionIndex rebuilt = builder.build();
+        index = rebuilt;
+        logger.info("Rebuilt suggestion index with {} entries in {}ms", rebuilt.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,70 @@
+package com.publicis.recipes.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+
+import com.publicis.recipes.exception.CustomException;
+
+/**
+ * Opaque cursor for deep pagination. Cursor mode walks the matches in ascending recipe id order and
+ * resumes with a range filter on the sortable {@code recipeId} index field, so page N costs the same
+ * as page 1 (no re-scoring and skipping of everything before it). {@code *} starts a new walk.
+ * <p>
+ * The cursor also records whether the first page of the walk fell back to fuzzy matching, so every
+ * later page matches the same way, whatever the number of hits left after the cursor.
+ */
+public final class SearchCursor {
+
+    public static final String START = "*";
+
+    private static final String PREFIX = "after:";
+
+    private static final String FUZZY_PREFIX = "fuzzy-after:";
+
+    private SearchCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return encode(lastId, false);
+    }
+
+    public static String encode(long lastId, boolean fuzzy) {
+        String position = (fuzzy ? FUZZY_PREFIX : PREFIX) + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the id to continue after, or {@code null} for {@link #START}
+     */
+    public static Long decode(String cursor) throws CustomException {
+        if (START.equals(cursor)) {
+            return null;
+        }
+        String decoded = decodePosition(cursor);
+        return Long.valueOf(decoded.substring(decoded.indexOf(':') + 1));
+    }
+
+    /**
+     * @return whether the walk {@code cursor} belongs to matches fuzzily; {@code false} for {@link #START}
+     */
+    public static boolean isFuzzy(String cursor) throws CustomException {
+        return !START.equals(cursor) && decodePosition(cursor).startsWith(FUZZY_PREFIX);
+    }
+
+    private static String decodePosition(String cursor) throws CustomException {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String prefix : new String[] { PREFIX, FUZZY_PREFIX }) {
+                if (decoded.startsWith(prefix)) {
+                    Long.parseLong(decoded.substring(prefix.length()));
+                    return decoded;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through to the error below
+        }
+        throw new CustomException(HttpStatus.BAD_REQUEST, "Invalid search cursor: " + cursor);
+    }
+}
@@ -0,0 +1,176 @@
+package com.publicis.recipes.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
+import org.hibernate.search.engine.backend.metamodel.IndexFieldDescriptor;
+import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.publicis.recipes.config.RecipeAnalysisConfigurer;
+import com.publicis.recipes.model.Recipe;
+import com.publicis.recipes.repository.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Warm restart for a persisted Lucene index ({@code persistent} profile). At startup the (id, content
+ * hash) pairs stored in the index are compared with the DB: if they match, search is served from the
+ * existing index straight away; otherwise the index is rebuilt from the DB with the MassIndexer.
+ * <p>
+ * Matching documents are not enough if they were written under an older mapping (e.g. before a field
+ * was added), so a fingerprint of the index mapping is kept in {@code <index name>.mapping} next to
+ * the index directory. An index without it, or with another fingerprint, is rebuilt as well.
+ */
+@Component
+public class SearchIndexVerifier {
+	private static final Logger logger = LoggerFactory.getLogger(SearchIndexVerifier.class);
+
+	/** Runs after anything that restores the DB at startup. */
+	public static final int ORDER = 100;
+
+	@Value("${app.search.verify-index-on-startup:true}")
+	private boolean enabled = true;
+
+	@Value("${spring.jpa.properties.hibernate.search.backend.directory.type:local-heap}")
+	private String directoryType = "local-heap";
+
+	@Value("${spring.jpa.properties.hibernate.search.backend.directory.root:}")
+	private String directoryRoot = "";
+
+    private final RecipeRepository recipeRepository;
+    private final EntityManager entityManager;
+
+    SearchIndexVerifier(RecipeRepository recipeRepository, EntityManager entityManager) {
+        this.recipeRepository = recipeRepository;
+        this.entityManager = entityManager;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(ORDER)
+    @Transactional(readOnly = true)
+    public void verifyOnStartup() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+
+        SearchSession searchSession = Search.session(entityManager);
+        IndexDescriptor index = Search.mapping(entityManager.getEntityManagerFactory())
+                .indexedEntity(Recipe.class).indexManager().descriptor();
+        String fingerprint = mappingFingerprint(index);
+        // A heap index starts out empty with every run, so only the document check applies to it
+        Path marker = "local-filesystem".equals(directoryType)
+                ? Path.of(directoryRoot).resolve(index.hibernateSearchName() + ".mapping")
+                : null;
+
+        if ((marker == null || mappingMatches(marker, fingerprint)) && indexMatchesDatabase(searchSession)) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        searchSession.massIndexer(Recipe.class).startAndWait();
+        logger.info("Rebuilt the recipe index from the DB in {}ms", System.currentTimeMillis() - start);
+
+        if (marker != null) {
+            try {
+                Files.createDirectories(marker.getParent());
+                Files.writeString(marker, fingerprint);
+            } catch (IOException e) {
+                // Only costs another rebuild at the next startup
+                logger.warn("Could not record the index mapping in {}: {}", marker, e.getMessage());
+            }
+        }
+    }
+
+    static boolean mappingMatches(Path marker, String fingerprint) {
+        String recorded;
+        try {
+            recorded = Files.exists(marker) ? Files.readString(marker).trim() : null;
+        } catch (IOException e) {
+            logger.warn("Could not read the index mapping from {}: {}", marker, e.getMessage());
+            recorded = null;
+        }
+        if (!fingerprint.equals(recorded)) {
+            logger.info("Recipe index was built under {} mapping, rebuilding it",
+                    recorded == null ? "an unknown" : "another");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * SHA-256 over every index field with its type, traits (searchable, sortable, aggregable, ...) and
+     * analysis, plus {@link RecipeAnalysisConfigurer#VERSION} for changes inside the analyzer definitions.
+     */
+    static String mappingFingerprint(IndexDescriptor index) {
+        StringBuilder mapping = new StringBuilder(1024).append(RecipeAnalysisConfigurer.VERSION).append('\n');
+        index.staticFields().stream()
+                .sorted(Comparator.comparing(IndexFieldDescriptor::absolutePath))
+                .forEach(field -> {
+                    mapping.append(field.absolutePath()).append(' ').append(field.multiValued());
+                    if (field.isValueField()) {
+                        IndexValueFieldTypeDescriptor type = field.toValueField().type();
+                        mapping.append(' ').append(type.valueClass().getName())
+                                .append(' ').append(new TreeSet<>(type.traits()))
+                                .append(' ').append(type.analyzerName().orElse("-"))
+                                .append(' ').append(type.searchAnalyzerName().orElse("-"))
+                                .append(' ').append(type.normalizerName().orElse("-"));
+                    }
+                    mapping.append('\n');
+                });
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(mapping.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    boolean indexMatchesDatabase(SearchSession searchSession) {
+        Map<Long, String> indexed = new HashMap<>();
+        List<List<?>> hits = searchSession.search(Recipe.class)
+                .select(f -> f.composite(f.id(Long.class), f.field("contentHash", String.class)))
+                .where(f -> f.matchAll())
+                .fetchAllHits();
+        for (List<?> hit : hits) {
+            indexed.put((Long) hit.get(0), (String) hit.get(1));
+        }
+
+        List<RecipeRepository.ContentHashView> stored = recipeRepository.findAllContentHashes();
+        if (stored.size() != indexed.size()) {
+            logger.info("Recipe index holds {} documents but the DB has {} recipes", indexed.size(), stored.size());
+            return false;
+        }
+        for (RecipeRepository.ContentHashView recipe : stored) {
+            if (!indexed.containsKey(recipe.getId()) || !Objects.equals(indexed.get(recipe.getId()), recipe.getContentHash())) {
+                logger.info("Recipe index is stale, first mismatch at recipe id {}", recipe.getId());
+                return false;
+            }
+        }
+
+        logger.info("Recipe index matches the DB ({} recipes), serving it as is", stored.size());
+        return true;
+    }
+}
@@ -0,0 +1,85 @@
+package com.publicis.recipes.service;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * How a text query is matched against {@code name} and {@code cuisine}. The exact predicate scores a
+ * phrase match on the name highest, then term matches per field, then a prefix match on the last
+ * term (for partially typed words). Fuzzy matching builds a Levenshtein automaton per term, by far the
+ * most expensive part of a query, so it is only used as a fallback when the exact predicate finds
+ * fewer than {@code app.search.query.fuzzy.min-exact-hits} recipes.
+ */
+@Component
+public class SearchQueryStrategy {
+
+	private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]");
+
+	/** Shorter last terms would expand to too many index terms to be worth a prefix clause. */
+	private static final int MIN_PREFIX_LENGTH = 2;
+
+	@Value("${app.search.query.name-boost:2.0}")
+	private float nameBoost = 2.0f;
+
+	@Value("${app.search.query.cuisine-boost:1.0}")
+	private float cuisineBoost = 1.0f;
+
+	@Value("${app.search.query.phrase-boost:2.0}")
+	private float phraseBoost = 2.0f;
+
+	@Value("${app.search.query.prefix-boost:0.5}")
+	private float prefixBoost = 0.5f;
+
+	@Value("${app.search.query.fuzzy.min-exact-hits:5}")
+	private int fuzzyMinExactHits = 5;
+
+	@Value("${app.search.query.fuzzy.max-edit-distance:2}")
+	private int fuzzyMaxEditDistance = 2;
+
+	@Value("${app.search.query.fuzzy.prefix-length:1}")
+	private int fuzzyPrefixLength = 1;
+
+    public PredicateFinalStep exact(SearchPredicateFactory f, String query) {
+        var predicate = f.bool()
+                .should(f.phrase().field("name").matching(query).boost(nameBoost * phraseBoost))
+                .should(f.match().field("name").matching(query).boost(nameBoost))
+                .should(f.match().field("cuisine").matching(query).boost(cuisineBoost));
+
+        String lastTerm = lastTerm(query);
+        if (lastTerm.length() >= MIN_PREFIX_LENGTH) {
+            predicate.should(f.wildcard().field("name").matching(lastTerm + "*").boost(prefixBoost));
+        }
+        return predicate;
+    }
+
+    /**
+     * The exact predicate plus fuzzy term matches, so exact hits still rank first.
+     */
+    public PredicateFinalStep fuzzy(SearchPredicateFactory f, String query) {
+        return f.bool()
+                .should(exact(f, query))
+                .should(f.match().field("name").matching(query)
+                        .fuzzy(fuzzyMaxEditDistance, fuzzyPrefixLength).boost(nameBoost))
+                .should(f.match().field("cuisine").matching(query)
+                        .fuzzy(fuzzyMaxEditDistance, fuzzyPrefixLength).boost(cuisineBoost));
+    }
+
+    public int getFuzzyMinExactHits() {
+        return fuzzyMinExactHits;
+    }
+
+    public boolean needsFuzzyFallback(long exactHits) {
+        return fuzzyMaxEditDistance > 0 && exactHits < fuzzyMinExactHits;
+    }
+
+    static String lastTerm(String query) {
+        String trimmed = query.trim();
+        String last = trimmed.substring(trimmed.lastIndexOf(' ') + 1);
+        return NON_WORD.matcher(last.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+}
@@ -0,0 +1,230 @@
+package com.publicis.recipes.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+import com.publicis.recipes.dto.SuggestionDTO;
+
+/**
+ * Immutable prefix index for typeahead. Every suggestion is stored under each of its word starts
+ * ("Chicken Curry" under "chicken curry" and "curry"), in one sorted array of normalized keys. A
+ * lookup binary-searches the block of keys starting with the prefix and keeps the heaviest
+ * suggestions of that block in a heap of {@code limit} entries. Lookups take no locks: a rebuild
+ * creates a new instance and swaps it in.
+ * <p>
+ * The block of a one or two character prefix can hold most of the catalog, and those are exactly the
+ * prefixes typed on every keystroke, so their ranking is computed once at build time: up to
+ * {@link Builder#precomputedLimit(int)} suggestions per distinct short prefix. That costs one scan of
+ * the keys per prefix length when building and a few ints per short prefix in memory (bounded by the
+ * number of two-character combinations, not by the catalog). Longer prefixes select small blocks and
+ * are still scanned per lookup, as are short ones asking for more than the precomputed limit.
+ */
+public final class SuggestionIndex {
+
+    public static final SuggestionIndex EMPTY = new Builder().build();
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** Prefixes up to this length are answered from {@link #topByShortPrefix}. */
+    static final int SHORT_PREFIX_LENGTH = 2;
+
+    static final int DEFAULT_PRECOMPUTED_LIMIT = 20;
+
+    // Sorted keys, and for each key the suggestion it belongs to
+    private final String[] keys;
+    private final int[] suggestionOfKey;
+
+    private final String[] texts;
+    private final String[] types;
+    private final Long[] ids;
+    private final double[] weights;
+
+    private final Comparator<Integer> lightestFirst;
+
+    // Heaviest suggestions first, for every short prefix some key starts with
+    private final int precomputedLimit;
+    private final Map<String, int[]> topByShortPrefix = new HashMap<>();
+
+    private SuggestionIndex(String[] keys, int[] suggestionOfKey, String[] texts, String[] types, Long[] ids, double[] weights,
+            int precomputedLimit) {
+        this.keys = keys;
+        this.suggestionOfKey = suggestionOfKey;
+        this.texts = texts;
+        this.types = types;
+        this.ids = ids;
+        this.weights = weights;
+        this.lightestFirst = Comparator.comparingDouble((Integer suggestion) -> weights[suggestion])
+                .thenComparing(suggestion -> texts[suggestion], Comparator.reverseOrder());
+        this.precomputedLimit = precomputedLimit;
+
+        // Keys are sorted, so the keys sharing a short prefix form one run
+        for (int length = 1; length <= SHORT_PREFIX_LENGTH; length++) {
+            int from = 0;
+            while (from < keys.length) {
+                if (keys[from].length() < length) {
+                    from++;
+                    continue;
+                }
+                String prefix = keys[from].substring(0, length);
+                int to = from + 1;
+                while (to < keys.length && keys[to].startsWith(prefix)) {
+                    to++;
+                }
+                topByShortPrefix.putIfAbsent(prefix, top(from, to, precomputedLimit));
+                from = to;
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    /**
+     * @return up to {@code limit} suggestions having a word that starts with {@code prefix}, heaviest first
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int[] ranked;
+        if (key.length() <= SHORT_PREFIX_LENGTH && limit <= precomputedLimit) {
+            ranked = topByShortPrefix.getOrDefault(key, new int[0]);
+            ranked = Arrays.copyOf(ranked, Math.min(limit, ranked.length));
+        } else {
+            ranked = top(lowerBound(key), lowerBound(key + Character.MAX_VALUE), limit);
+        }
+
+        List<SuggestionDTO> suggestions = new ArrayList<>(ranked.length);
+        for (int suggestion : ranked) {
+            suggestions.add(new SuggestionDTO(texts[suggestion], types[suggestion], ids[suggestion]));
+        }
+        return suggestions;
+    }
+
+    /**
+     * @return the {@code limit} heaviest suggestions of the keys in {@code [from, to)}, heaviest first
+     */
+    private int[] top(int from, int to, int limit) {
+        if (limit <= 0) {
+            return new int[0];
+        }
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, lightestFirst);
+        for (int i = from; i < to; i++) {
+            int suggestion = suggestionOfKey[i];
+            // A suggestion with several matching words shows up once per word. If an earlier copy was
+            // evicted, this one would be evicted again, so checking the (small) heap is enough.
+            if (top.contains(suggestion)) {
+                continue;
+            }
+            top.offer(suggestion);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>(top);
+        ranked.sort(lightestFirst.reversed());
+        return ranked.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static String normalize(String text) {
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(folded.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    public static final class Builder {
+        private final List<String> texts = new ArrayList<>();
+        private final List<String> types = new ArrayList<>();
+        private final List<Long> ids = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+        private int precomputedLimit = DEFAULT_PRECOMPUTED_LIMIT;
+
+        private Builder() {
+        }
+
+        /**
+         * How many suggestions are ranked ahead per short prefix; set it to the largest {@code limit}
+         * lookups ask for.
+         */
+        public Builder precomputedLimit(int precomputedLimit) {
+            this.precomputedLimit = precomputedLimit;
+            return this;
+        }
+
+        /**
+         * @param id recipe id, {@code null} for suggestions that are not a single recipe
+         */
+        public Builder add(String text, String type, Long id, double weight) {
+            if (text != null && !text.isBlank()) {
+                texts.add(text.trim());
+                types.add(type);
+                ids.add(id);
+                weights.add(weight);
+            }
+            return this;
+        }
+
+        public SuggestionIndex build() {
+            List<String> keyList = new ArrayList<>();
+            List<Integer> suggestionList = new ArrayList<>();
+            for (int suggestion = 0; suggestion < texts.size(); suggestion++) {
+                String key = normalize(texts.get(suggestion));
+                for (int start = 0; start < key.length(); start = key.indexOf(' ', start) + 1) {
+                    keyList.add(key.substring(start));
+                    suggestionList.add(suggestion);
+                    if (key.indexOf(' ', start) < 0) {
+                        break;
+                    }
+                }
+            }
+
+            Integer[] order = new Integer[keyList.size()];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparing(keyList::get));
+
+            String[] keys = new String[order.length];
+            int[] suggestionOfKey = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = keyList.get(order[i]);
+                suggestionOfKey[i] = suggestionList.get(order[i]);
+            }
+
+            double[] weightArray = new double[weights.size()];
+            for (int i = 0; i < weightArray.length; i++) {
+                weightArray[i] = weights.get(i);
+            }
+            return new SuggestionIndex(keys, suggestionOfKey, texts.toArray(String[]::new), types.toArray(String[]::new),
+                    ids.toArray(Long[]::new), weightArray, precomputedLimit);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.publicis.recipes.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.mapper.orm.Search;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Runs the {@code ingredient} analyzer as registered with the Lucene backend.
+ */
+@DataJpaTest
+class RecipeAnalysisConfigurerTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Analyzer analyzer;
+
+    @BeforeEach
+    void setup() {
+        analyzer = Search.mapping(entityManagerFactory).backend().unwrap(LuceneBackend.class)
+                .analyzer(RecipeAnalysisConfigurer.INGREDIENT_ANALYZER).orElseThrow();
+    }
+
+    private List<String> tokens(String text) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream("ingredients", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+
+    @Test
+    void testIngredient_PluralsMatchSingular() throws IOException {
+        assertEquals(List.of("tomato", "potato", "onion", "cherry", "egg"), tokens("Tomatoes Potatoes Onions Cherries Eggs"));
+        assertEquals(List.of("tomato"), tokens("tomato"));
+    }
+
+    @Test
+    void testIngredient_StripsQuantitiesAndUnits() throws IOException {
+        assertEquals(tokens("tomato"), tokens("2 cups chopped Tomatoes"));
+    }
+}
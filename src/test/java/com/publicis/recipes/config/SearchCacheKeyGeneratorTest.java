@@ -0,0 +1,34 @@
+package com.publicis.recipes.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.publicis.recipes.dto.IngredientSearchRequest;
+import com.publicis.recipes.service.CatalogVersion;
+import com.publicis.recipes.service.RecipeService;
+
+class SearchCacheKeyGeneratorTest {
+
+    private final SearchCacheKeyGenerator keyGenerator = new SearchCacheKeyGenerator(new CatalogVersion());
+
+    private Object key(List<String> ingredients) throws NoSuchMethodException {
+        Method method = RecipeService.class.getMethod("searchByIngredients", IngredientSearchRequest.class);
+        return keyGenerator.generate(null, method, new IngredientSearchRequest(ingredients));
+    }
+
+    @Test
+    void testIngredientsNormalized() throws Exception {
+        assertEquals(key(List.of("garlic", "olive oil")), key(List.of(" Olive  Oil", "GARLIC", " ")));
+    }
+
+    @Test
+    void testIngredientDuplicatesKept() throws Exception {
+        // The service counts both towards match=all, so these are different searches
+        assertNotEquals(key(List.of("garlic")), key(List.of("garlic", "Garlic")));
+    }
+}
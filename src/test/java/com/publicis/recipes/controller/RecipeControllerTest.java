@@ -1,14 +1,18 @@
 package com.publicis.recipes.controller;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,11 +20,24 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.publicis.recipes.dto.IngredientSearchRequest;
+import com.publicis.recipes.dto.LoadJobDTO;
+import com.publicis.recipes.dto.RecipeBatchDTO;
 import com.publicis.recipes.dto.RecipeDTO;
+import com.publicis.recipes.dto.RecipeSearchRequest;
+import com.publicis.recipes.dto.RecipeSummaryDTO;
+import com.publicis.recipes.dto.SearchPage;
+import com.publicis.recipes.dto.SuggestionDTO;
 import com.publicis.recipes.model.Recipe;
+import com.publicis.recipes.exception.CustomException;
+import com.publicis.recipes.service.CatalogVersion;
+import com.publicis.recipes.service.LoadJobService;
+import com.publicis.recipes.service.LoadPhase;
 import com.publicis.recipes.service.RecipeService;
+import com.publicis.recipes.service.RecipeSuggester;
 
 @WebMvcTest(RecipeController.class)
 public class RecipeControllerTest {
@@ -31,6 +48,18 @@ public class RecipeControllerTest {
     @MockBean
     private RecipeService recipeService;
 
+    @MockBean
+    private RecipeSuggester recipeSuggester;
+
+    @MockBean
+    private CatalogVersion catalogVersion;
+
+    @MockBean
+    private LoadJobService loadJobService;
+
+    private static final String CATALOG_ETAG = "W/\"3-18f0\"";
+    private static final Instant CATALOG_LAST_MODIFIED = Instant.parse("2026-01-01T10:00:00Z");
+
     private Recipe recipe;
     
     private RecipeDTO recipeDTO;
@@ -43,24 +72,93 @@ public class RecipeControllerTest {
         recipe.setCuisine("Italian");
         
         recipeDTO = new RecipeDTO(recipe);
+
+        Mockito.when(catalogVersion.etag()).thenReturn(CATALOG_ETAG);
+        Mockito.when(catalogVersion.getLastModified()).thenReturn(CATALOG_LAST_MODIFIED);
     }
 
     @Test
     void testLoadRecipes() throws Exception {
-        Mockito.when(recipeService.loadRecipesFromExternal()).thenReturn("Loaded 50 recipes");
+        LoadJobDTO job = new LoadJobDTO();
+        job.setJobId("job-1");
+        job.setPhase(LoadPhase.QUEUED);
+        Mockito.when(loadJobService.submit()).thenReturn(job);
 
         mockMvc.perform(post("/api/recipes/load"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/recipes/load/job-1"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.phase").value("QUEUED"));
+    }
+
+    @Test
+    void testGetLoadJob() throws Exception {
+        LoadJobDTO job = new LoadJobDTO();
+        job.setJobId("job-1");
+        job.setPhase(LoadPhase.FETCHING);
+        job.setPagesFetched(3);
+        job.setRecipesFetched(90);
+        Mockito.when(loadJobService.getJob("job-1")).thenReturn(job);
+        Mockito.when(loadJobService.getJob("missing"))
+                .thenThrow(new CustomException(HttpStatus.NOT_FOUND, "Load job not found with id: missing"));
+
+        mockMvc.perform(get("/api/recipes/load/job-1"))
                 .andExpect(status().isOk())
-                .andExpect(content().string("Loaded 50 recipes"));
+                .andExpect(jsonPath("$.phase").value("FETCHING"))
+                .andExpect(jsonPath("$.recipesFetched").value(90));
+
+        mockMvc.perform(get("/api/recipes/load/missing"))
+                .andExpect(status().isNotFound());
     }
 
     @Test
     void testSearchRecipes() throws Exception {
-        Mockito.when(recipeService.searchRecipes(anyString())).thenReturn(List.of(recipeDTO));
+        Mockito.when(recipeService.searchRecipes(any(RecipeSearchRequest.class)))
+                .thenReturn(new SearchPage<>(List.of(recipeDTO), 1, true, null));
 
         mockMvc.perform(get("/api/recipes/search").param("query", "pasta"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].name").value("Pasta"));
+                .andExpect(jsonPath("$[0].name").value("Pasta"))
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(header().string("X-Total-Count-Exact", "true"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void testSearchRecipes_CursorPage() throws Exception {
+        Mockito.when(recipeService.searchRecipes(any(RecipeSearchRequest.class)))
+                .thenReturn(new SearchPage<>(List.of(recipeDTO), 500, false, "next"));
+
+        mockMvc.perform(get("/api/recipes/search").param("query", "pasta").param("size", "1").param("cursor", "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count-Exact", "false"))
+                .andExpect(header().string("X-Next-Cursor", "next"));
+
+        Mockito.verify(recipeService).searchRecipes(argThat(request -> request.getSize() == 1 && "*".equals(request.getCursor())));
+    }
+
+    @Test
+    void testSearchRecipes_RangeAndSort() throws Exception {
+        Mockito.when(recipeService.searchRecipes(any(RecipeSearchRequest.class)))
+                .thenReturn(new SearchPage<>(List.of(recipeDTO), 1, true, null));
+
+        mockMvc.perform(get("/api/recipes/search")
+                        .param("maxCaloriesPerServing", "500")
+                        .param("minRating", "4.5")
+                        .param("sort", "-rating,prepTimeMinutes"))
+                .andExpect(status().isOk());
+
+        Mockito.verify(recipeService).searchRecipes(argThat(request -> request.getMaxCaloriesPerServing() == 500
+                && request.getMinRating() == 4.5
+                && List.of("-rating", "prepTimeMinutes").equals(request.getSort())));
+    }
+
+    @Test
+    void testSearchRecipes_InvalidPageSize() throws Exception {
+        mockMvc.perform(get("/api/recipes/search").param("query", "pasta").param("size", "500"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(recipeService);
     }
 
     @Test
@@ -78,6 +176,98 @@ public class RecipeControllerTest {
                 .andExpect(jsonPath("$.cuisine").value("Italian"));
     }
 
+    @Test
+    void testSearchRecipes_SparseFields() throws Exception {
+        recipeDTO.setIngredients(List.of("Flour", "Eggs"));
+        recipeDTO.setImage("pasta.jpg");
+        Mockito.when(recipeService.searchRecipes(any(RecipeSearchRequest.class)))
+                .thenReturn(new SearchPage<>(List.of(recipeDTO), 1, true, null));
+
+        mockMvc.perform(get("/api/recipes/search").param("query", "pasta").param("fields", "name,image"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("Pasta"))
+                .andExpect(jsonPath("$[0].image").value("pasta.jpg"))
+                .andExpect(jsonPath("$[0].cuisine").doesNotExist())
+                .andExpect(jsonPath("$[0].ingredients").doesNotExist());
+    }
+
+    @Test
+    void testSearchRecipeFacets_SparseFieldsKeepEnvelope() throws Exception {
+        SearchPage<RecipeSummaryDTO> page = new SearchPage<>(
+                List.of(new RecipeSummaryDTO(1L, "Pasta", "Italian", "pasta.jpg", 4.5, "Easy")), 1, true, null);
+        page.setFacets(Map.of("cuisine", Map.of("Italian", 1L)));
+        Mockito.when(recipeService.searchRecipeFacets(any(RecipeSearchRequest.class))).thenReturn(page);
+
+        mockMvc.perform(get("/api/recipes/facets").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalHits").value(1))
+                .andExpect(jsonPath("$.facets.cuisine.Italian").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Pasta"))
+                .andExpect(jsonPath("$.items[0].rating").doesNotExist());
+    }
+
+    @Test
+    void testSearchRecipes_SetsCatalogValidators() throws Exception {
+        Mockito.when(recipeService.searchRecipes(any(RecipeSearchRequest.class)))
+                .thenReturn(new SearchPage<>(List.of(recipeDTO), 1, true, null));
+
+        mockMvc.perform(get("/api/recipes/search").param("query", "pasta"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", CATALOG_ETAG))
+                .andExpect(header().dateValue("Last-Modified", CATALOG_LAST_MODIFIED.toEpochMilli()))
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    void testSearchRecipes_NotModified() throws Exception {
+        mockMvc.perform(get("/api/recipes/search").param("query", "pasta").header("If-None-Match", CATALOG_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // Answered without running the search
+        Mockito.verify(recipeService, Mockito.never()).searchRecipes(any(RecipeSearchRequest.class));
+    }
+
+    @Test
+    void testGetById_NotModified() throws Exception {
+        RecipeDTO dto = new RecipeDTO();
+        dto.setId(1L);
+        dto.setContentHash("a1b2c3");
+        Mockito.when(recipeService.getContentHash(1L)).thenReturn("a1b2c3");
+        Mockito.when(recipeService.getById(1L)).thenReturn(dto);
+
+        mockMvc.perform(get("/api/recipes/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"a1b2c3\""))
+                .andExpect(jsonPath("$.contentHash").doesNotExist());
+
+        // Without If-None-Match the tag comes from the loaded recipe, with no separate hash lookup
+        Mockito.verify(recipeService, Mockito.never()).getContentHash(anyLong());
+        Mockito.clearInvocations(recipeService);
+        mockMvc.perform(get("/api/recipes/1").header("If-None-Match", "W/\"a1b2c3\""))
+                .andExpect(status().isNotModified());
+
+        // Answered from the hash, without loading the recipe
+        Mockito.verify(recipeService, Mockito.never()).getById(anyLong());
+
+        mockMvc.perform(get("/api/recipes/1").header("If-None-Match", "W/\"0ld\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "W/\"a1b2c3\""));
+    }
+
+    @Test
+    void testGetByIds() throws Exception {
+        Mockito.when(recipeService.getByIds(List.of(3L, 1L, 2L)))
+                .thenReturn(new RecipeBatchDTO(List.of(recipeDTO), List.of(3L, 2L)));
+
+        mockMvc.perform(get("/api/recipes").param("ids", "3,1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recipes[0].name").value("Pasta"))
+                .andExpect(jsonPath("$.missingIds[0]").value(3))
+                .andExpect(jsonPath("$.missingIds[1]").value(2));
+    }
+
     @Test
     void testSearchRecipesHighlight() throws Exception {
         RecipeDTO dto = new RecipeDTO();
@@ -85,10 +275,81 @@ public class RecipeControllerTest {
         dto.setName("Burger");
         dto.setCuisine("American");
 
-        Mockito.when(recipeService.searchRecipesHighlight(anyString())).thenReturn(List.of(dto));
+        Mockito.when(recipeService.searchRecipesHighlight(any(RecipeSearchRequest.class)))
+                .thenReturn(new SearchPage<>(List.of(dto), 1, true, null));
 
         mockMvc.perform(get("/api/recipes/search-highlight").param("query", "burger"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].name").value("Burger"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSearchRecipeSummaries() throws Exception {
+        RecipeSummaryDTO summary = new RecipeSummaryDTO(3L, "Margherita Pizza", "Italian", "pizza.jpg", 4.6, "Easy");
+
+        Mockito.when(recipeService.searchRecipeSummaries(any(RecipeSearchRequest.class)))
+                .thenReturn(new SearchPage<>(List.of(summary), 1, true, null));
+
+        mockMvc.perform(get("/api/recipes/search-summary").param("query", "pizza"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Margherita Pizza"))
+                .andExpect(jsonPath("$[0].rating").value(4.6))
+                .andExpect(jsonPath("$[0].ingredients").doesNotExist());
+    }
+
+    @Test
+    void testSearchRecipeFacets() throws Exception {
+        RecipeSummaryDTO summary = new RecipeSummaryDTO(3L, "Margherita Pizza", "Italian", "pizza.jpg", 4.6, "Easy");
+        SearchPage<RecipeSummaryDTO> page = new SearchPage<>(List.of(summary), 1, true, null);
+        page.setFacets(Map.of("cuisine", Map.of("Italian", 1L)));
+
+        Mockito.when(recipeService.searchRecipeFacets(any(RecipeSearchRequest.class))).thenReturn(page);
+
+        mockMvc.perform(get("/api/recipes/facets").param("cuisine", "Italian").param("tags", "Pizza", "Dinner"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].name").value("Margherita Pizza"))
+                .andExpect(jsonPath("$.totalHits").value(1))
+                .andExpect(jsonPath("$.facets.cuisine.Italian").value(1));
+
+        Mockito.verify(recipeService).searchRecipeFacets(argThat(request -> request.getQuery() == null
+                && List.of("Italian").equals(request.getCuisine())
+                && List.of("Pizza", "Dinner").equals(request.getTags())));
+    }
+
+    @Test
+    void testSearchByIngredients() throws Exception {
+        RecipeSummaryDTO summary = new RecipeSummaryDTO(4L, "Chicken Fried Rice", "Chinese", "rice.jpg", 4.4, "Easy");
+        summary.setMatchedIngredients(3);
+
+        Mockito.when(recipeService.searchByIngredients(any(IngredientSearchRequest.class)))
+                .thenReturn(new SearchPage<>(List.of(summary), 1, true, null));
+
+        mockMvc.perform(get("/api/recipes/by-ingredients").param("ingredients", "chicken,garlic,rice").param("match", "any"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].matchedIngredients").value(3))
+                .andExpect(header().string("X-Total-Count", "1"));
+
+        Mockito.verify(recipeService).searchByIngredients(argThat(request -> "any".equals(request.getMatch())
+                && List.of("chicken", "garlic", "rice").equals(request.getIngredients())));
+    }
+
+    @Test
+    void testSearchByIngredients_MissingIngredients() throws Exception {
+        mockMvc.perform(get("/api/recipes/by-ingredients").param("match", "most"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(recipeService);
+    }
+
+    @Test
+    void testSuggest() throws Exception {
+        Mockito.when(recipeSuggester.suggest("chi", 5))
+                .thenReturn(List.of(new SuggestionDTO("Chinese", "cuisine", null), new SuggestionDTO("Chicken Curry", "recipe", 7L)));
+
+        mockMvc.perform(get("/api/recipes/suggest").param("prefix", "chi").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].text").value("Chinese"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(jsonPath("$[1].id").value(7));
+    }
+}
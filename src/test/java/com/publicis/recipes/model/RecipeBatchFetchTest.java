@@ -0,0 +1,67 @@
+package com.publicis.recipes.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.publicis.recipes.dto.RecipeDTO;
+import com.publicis.recipes.repository.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RecipeBatchFetchTest {
+
+    private static final int HITS = 20;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        LongStream.rangeClosed(1, HITS).forEach(id -> {
+            Recipe recipe = new Recipe();
+            recipe.setId(id);
+            recipe.setName("Recipe " + id);
+            recipe.setIngredients(List.of("Flour", "Water"));
+            recipe.setInstructions(List.of("Mix", "Bake"));
+            recipe.setTags(List.of("Dinner"));
+            recipe.setMealType(List.of("Dinner"));
+            entityManager.persist(recipe);
+        });
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testMappingHitPage_OneQueryPerElementCollection() {
+        List<Long> ids = LongStream.rangeClosed(1, HITS).boxed().toList();
+
+        List<RecipeDTO> dtos = recipeRepository.findAllById(ids).stream().map(RecipeDTO::new).toList();
+
+        assertEquals(HITS, dtos.size());
+        assertEquals(List.of("Flour", "Water"), dtos.get(HITS - 1).getIngredients());
+        // One select for the recipes plus one per element collection, instead of 1 + 4 * HITS
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,114 @@
+package com.publicis.recipes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.publicis.recipes.model.Recipe;
+
+public class CatalogSnapshotTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-05-01T10:15:30Z");
+
+    private static Recipe recipe(long id, String name) {
+        Recipe recipe = new Recipe();
+        recipe.setId(id);
+        recipe.setName(name);
+        recipe.setCuisine("Italian");
+        recipe.setRating(4.5);
+        recipe.setServings(2);
+        recipe.setIngredients(List.of("Flour", "Tomato sauce"));
+        recipe.setTags(List.of());
+        recipe.setContentHash(RecipeContentHash.of(recipe));
+        return recipe;
+    }
+
+    private static byte[] snapshot(List<Recipe> recipes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CatalogSnapshot.write(recipes, CREATED_AT, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        Recipe pizza = recipe(1, "Classic Margherita Pizza");
+
+        CatalogSnapshot.Contents contents = CatalogSnapshot.read(new ByteArrayInputStream(snapshot(List.of(pizza, recipe(2, "Tiramisu")))));
+
+        assertEquals(CREATED_AT, contents.createdAt());
+        assertEquals(2, contents.recipes().size());
+        Recipe restored = contents.recipes().get(0);
+        assertEquals(pizza.getName(), restored.getName());
+        assertEquals(pizza.getIngredients(), restored.getIngredients());
+        assertEquals(List.of(), restored.getTags());
+        assertNull(restored.getInstructions());
+        assertNull(restored.getCookTimeMinutes());
+        // Same content hash as the source, so a later DELTA load sees the restored recipe as unchanged
+        assertEquals(pizza.getContentHash(), RecipeContentHash.of(restored));
+    }
+
+    @Test
+    void testRejectsCorruptedPayload() throws IOException {
+        byte[] bytes = snapshot(List.of(recipe(1, "Classic Margherita Pizza")));
+        bytes[bytes.length - 12] ^= 0x5A; // inside the compressed records
+
+        assertThrows(IOException.class, () -> CatalogSnapshot.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void testRejectsOtherFormatVersion() throws IOException {
+        byte[] bytes = snapshot(List.of(recipe(1, "Classic Margherita Pizza")));
+        bytes[7] = (byte) (CatalogSnapshot.FORMAT_VERSION + 1);
+
+        IOException ex = assertThrows(IOException.class, () -> CatalogSnapshot.read(new ByteArrayInputStream(bytes)));
+        assertEquals("snapshot format %d, expected %d".formatted(CatalogSnapshot.FORMAT_VERSION + 1, CatalogSnapshot.FORMAT_VERSION),
+                ex.getMessage());
+    }
+
+    @Test
+    void testRoundTrip_StringsOver64KB() throws IOException {
+        Recipe recipe = recipe(1, "Slow-cooked ragù");
+        // writeUTF stops at 65535 encoded bytes; this is well over that, with multi-byte characters
+        String instructions = "Stir the ragù gently, then simmer. ".repeat(4000);
+        recipe.setInstructions(List.of("Prep", instructions));
+
+        CatalogSnapshot.Contents contents = CatalogSnapshot.read(new ByteArrayInputStream(snapshot(List.of(recipe))));
+
+        assertEquals(List.of("Prep", instructions), contents.recipes().get(0).getInstructions());
+        assertEquals("Slow-cooked ragù", contents.recipes().get(0).getName());
+    }
+
+    @Test
+    void testWrite_ReadsCatalogPageByPage() throws IOException {
+        List<Recipe> catalog = List.of(recipe(1, "Pizza"), recipe(2, "Pasta"), recipe(5, "Risotto"));
+        List<Long> requestedAfter = new ArrayList<>();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CatalogSnapshot.write(catalog.size(), afterId -> {
+            requestedAfter.add(afterId);
+            return catalog.stream().filter(recipe -> recipe.getId() > afterId).limit(2).toList();
+        }, CREATED_AT, out);
+
+        assertEquals(List.of(Long.MIN_VALUE, 2L, 5L), requestedAfter);
+        CatalogSnapshot.Contents contents = CatalogSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(List.of(1L, 2L, 5L), contents.recipes().stream().map(Recipe::getId).toList());
+    }
+
+    @Test
+    void testWrite_FailsWhenCatalogChangesWhileWriting() {
+        List<Recipe> catalog = List.of(recipe(1, "Pizza"), recipe(2, "Pasta"));
+
+        assertThrows(IOException.class, () -> CatalogSnapshot.write(3,
+                afterId -> catalog.stream().filter(recipe -> recipe.getId() > afterId).toList(),
+                CREATED_AT, new ByteArrayOutputStream()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.publicis.recipes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+
+import com.publicis.recipes.dto.LoadJobDTO;
+import com.publicis.recipes.exception.CustomException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+class LoadJobServiceTest {
+
+    @Mock
+    private RecipeService recipeService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AsyncTaskExecutor loadExecutor;
+
+    @InjectMocks
+    private LoadJobService loadJobService;
+
+    @Test
+    void testSubmit_CoalescesWhileRunning() throws Exception {
+        LoadJobDTO first = loadJobService.submit();
+        LoadJobDTO second = loadJobService.submit();
+
+        assertEquals(LoadPhase.QUEUED, first.getPhase());
+        assertEquals(first.getJobId(), second.getJobId());
+        verify(loadExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void testRun_ReportsCompletionAndAllowsNextLoad() throws Exception {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.isOpen()).thenReturn(true);
+        when(recipeService.loadRecipesFromExternal(any(LoadProgress.class))).thenReturn("Recipes loaded successfully: 30");
+
+        LoadJobDTO submitted = loadJobService.submit();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(loadExecutor).execute(task.capture());
+        task.getValue().run();
+
+        LoadJobDTO finished = loadJobService.getJob(submitted.getJobId());
+        assertEquals(LoadPhase.COMPLETED, finished.getPhase());
+        assertEquals("Recipes loaded successfully: 30", finished.getMessage());
+        assertNotNull(finished.getFinishedAt());
+        verify(entityManager).close();
+
+        // The finished job no longer absorbs new triggers
+        assertNotEquals(submitted.getJobId(), loadJobService.submit().getJobId());
+    }
+
+    @Test
+    void testRun_Failure() throws Exception {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(recipeService.loadRecipesFromExternal(any(LoadProgress.class)))
+                .thenThrow(new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API"));
+
+        LoadJobDTO submitted = loadJobService.submit();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(loadExecutor).execute(task.capture());
+        task.getValue().run();
+
+        LoadJobDTO failed = loadJobService.getJob(submitted.getJobId());
+        assertEquals(LoadPhase.FAILED, failed.getPhase());
+        assertEquals("Failed to fetch data from external API", failed.getMessage());
+    }
+
+    @Test
+    void testRun_ErrorFailsJobAndAllowsNextLoad() throws Exception {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.isOpen()).thenReturn(true);
+        when(recipeService.loadRecipesFromExternal(any(LoadProgress.class))).thenThrow(new OutOfMemoryError("Java heap space"));
+
+        LoadJobDTO submitted = loadJobService.submit();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(loadExecutor).execute(task.capture());
+        assertThrows(OutOfMemoryError.class, () -> task.getValue().run());
+
+        LoadJobDTO failed = loadJobService.getJob(submitted.getJobId());
+        assertEquals(LoadPhase.FAILED, failed.getPhase());
+        assertEquals("java.lang.OutOfMemoryError: Java heap space", failed.getMessage());
+        assertNotNull(failed.getFinishedAt());
+        verify(entityManager).close();
+
+        // The failed job no longer absorbs new triggers
+        assertNotEquals(submitted.getJobId(), loadJobService.submit().getJobId());
+    }
+
+    @Test
+    void testGetJob_NotFound() {
+        CustomException ex = assertThrows(CustomException.class, () -> loadJobService.getJob("missing"));
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatus());
+    }
+}
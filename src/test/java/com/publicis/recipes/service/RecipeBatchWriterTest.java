@@ -0,0 +1,110 @@
+package com.publicis.recipes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.publicis.recipes.model.Recipe;
+import com.publicis.recipes.repository.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.ingest.write-batch-size=50"
+})
+@Import(RecipeBatchWriter.class)
+class RecipeBatchWriterTest {
+
+    @Autowired
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static List<Recipe> recipes(int count, String version) {
+        List<Recipe> recipes = new ArrayList<>();
+        LongStream.rangeClosed(1, count).forEach(id -> {
+            Recipe recipe = new Recipe();
+            recipe.setId(id);
+            recipe.setName("Recipe " + id + " " + version);
+            recipe.setCuisine("Italian");
+            recipe.setIngredients(List.of("Flour", "Water " + version));
+            recipe.setInstructions(List.of("Mix", "Bake"));
+            recipe.setTags(List.of("Dinner"));
+            recipe.setMealType(List.of("Dinner"));
+            recipe.setContentHash(RecipeContentHash.of(recipe));
+            recipes.add(recipe);
+        });
+        return recipes;
+    }
+
+    private long statementsFor(Runnable write) {
+        statistics.clear();
+        write.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void testSave_UpdatesExistingRecipesWithoutSelectPerRecipe() {
+        recipeBatchWriter.save(recipes(40, "v1"));
+
+        // Per chunk: one select for the stored rows, one batched update of recipe, and per element
+        // collection one batched delete and one batched insert, however many recipes the chunk holds
+        assertEquals(10, statementsFor(() -> recipeBatchWriter.save(recipes(40, "v2"))));
+
+        Recipe updated = recipeRepository.findById(7L).orElseThrow();
+        assertEquals("Recipe 7 v2", updated.getName());
+        assertEquals(List.of("Flour", "Water v2"), updated.getIngredients());
+        assertEquals(40, recipeRepository.count());
+    }
+
+    @Test
+    void testSave_InsertsNewAndUpdatesExistingInOneChunk() {
+        recipeBatchWriter.save(recipes(10, "v1"));
+        entityManager.clear();
+
+        recipeBatchWriter.saveWithoutIndexing(recipes(20, "v2"));
+
+        assertEquals(20, recipeRepository.count());
+        assertEquals("Recipe 3 v2", recipeRepository.findById(3L).orElseThrow().getName());
+        assertEquals("Recipe 15 v2", recipeRepository.findById(15L).orElseThrow().getName());
+    }
+
+    @Test
+    void testSave_KeepsLastCopyOfDuplicateId() {
+        List<Recipe> recipes = recipes(3, "v1");
+        recipes.addAll(recipes(2, "v2"));
+
+        recipeBatchWriter.save(recipes);
+        entityManager.clear();
+
+        assertEquals(3, recipeRepository.count());
+        assertEquals("Recipe 2 v2", recipeRepository.findById(2L).orElseThrow().getName());
+        assertEquals("Recipe 3 v1", recipeRepository.findById(3L).orElseThrow().getName());
+    }
+}
@@ -0,0 +1,157 @@
+package com.publicis.recipes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicis.recipes.config.RestTemplateConfig;
+import com.publicis.recipes.dto.ExternalRecipePage;
+import com.publicis.recipes.exception.CustomException;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+
+/**
+ * Runs {@link RecipeFeedClient} with the application's pooled HTTP client against {@link StubRecipesApi},
+ * with the {@code recipes-api} policies scaled down so each one trips within a test.
+ */
+class RecipeFeedClientResilienceTest {
+
+    private StubRecipesApi upstream;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeEach
+    void setup() throws IOException {
+        upstream = new StubRecipesApi();
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordExceptions(RestClientException.class, IOException.class)
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.close();
+    }
+
+    @Test
+    void testCircuitBreaker_OpensAndFailsFast() {
+        RecipeFeedClient feedClient = feedClient(RateLimiterRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+        upstream.respondWith(500);
+
+        // Two pages with two attempts each fill the sliding window with failures
+        assertThrows(CustomException.class, () -> feedClient.fetchPage(0, 1));
+        assertThrows(CustomException.class, () -> feedClient.fetchPage(1, 1));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker(RecipeFeedClient.UPSTREAM).getState());
+
+        upstream.respondWith(200);
+        CustomException ex = assertThrows(CustomException.class, () -> feedClient.fetchPage(2, 1));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+        assertEquals(4, upstream.requests());
+    }
+
+    @Test
+    void testCircuitBreaker_IgnoresClientErrors() {
+        RecipeFeedClient feedClient = feedClient(RateLimiterRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+        upstream.respondWith(404);
+
+        for (int skip = 0; skip < 6; skip++) {
+            int page = skip;
+            assertThrows(CustomException.class, () -> feedClient.fetchPage(page, 1));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker(RecipeFeedClient.UPSTREAM).getState());
+        assertEquals(6, upstream.requests());
+    }
+
+    @Test
+    void testRateLimiter_RejectsCallsOverQuota() throws Exception {
+        RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(2)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        RecipeFeedClient feedClient = feedClient(rateLimiterRegistry, BulkheadRegistry.ofDefaults());
+
+        feedClient.fetchPage(0, 1);
+        feedClient.fetchPage(1, 1);
+        CustomException ex = assertThrows(CustomException.class, () -> feedClient.fetchPage(2, 1));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+        assertEquals(2, upstream.requests());
+    }
+
+    @Test
+    void testBulkhead_BoundsConcurrentCalls() throws Exception {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(2)
+                .maxWaitDuration(Duration.ofSeconds(10))
+                .build());
+        RecipeFeedClient feedClient = feedClient(RateLimiterRegistry.ofDefaults(), bulkheadRegistry);
+        upstream.latency(Duration.ofMillis(100));
+
+        ExecutorService fetchers = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<ExternalRecipePage>> pages = new ArrayList<>();
+            for (int skip = 0; skip < 6; skip++) {
+                int page = skip;
+                pages.add(fetchers.submit(() -> feedClient.fetchPage(page, 1)));
+            }
+            for (int skip = 0; skip < 6; skip++) {
+                assertEquals(skip + 1L, pages.get(skip).get().getRecipes().get(0).getId());
+            }
+        } finally {
+            fetchers.shutdownNow();
+        }
+
+        assertEquals(6, upstream.requests());
+        assertTrue(upstream.maxInFlight() <= 2, "at most 2 calls in flight but saw " + upstream.maxInFlight());
+    }
+
+    private RecipeFeedClient feedClient(RateLimiterRegistry rateLimiterRegistry, BulkheadRegistry bulkheadRegistry) {
+        RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+        RestTemplate restTemplate = restTemplateConfig.restTemplate(restTemplateConfig.upstreamRequestFactory());
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(RestClientException.class, IOException.class)
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build());
+
+        RecipeFeedClient feedClient = new RecipeFeedClient(restTemplate, new RecipeFeedDecoder(new ObjectMapper()),
+                retryRegistry, circuitBreakerRegistry, rateLimiterRegistry, bulkheadRegistry);
+        ReflectionTestUtils.setField(feedClient, "recipesUrl", upstream.url());
+        return feedClient;
+    }
+}
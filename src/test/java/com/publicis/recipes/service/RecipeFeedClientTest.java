@@ -0,0 +1,133 @@
+package com.publicis.recipes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicis.recipes.dto.ExternalRecipePage;
+import com.publicis.recipes.exception.CustomException;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+
+class RecipeFeedClientTest {
+
+    private MockRestServiceServer server;
+
+    private RecipeFeedClient feedClient;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeEach
+    void setup() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        // Same policies as resilience4j.*.instances.recipes-api, without the waits
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(RestClientException.class, IOException.class)
+                .ignoreExceptions(HttpClientErrorException.class, MalformedFeedException.class)
+                .build());
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .recordExceptions(RestClientException.class, IOException.class)
+                .ignoreExceptions(HttpClientErrorException.class, MalformedFeedException.class)
+                .build());
+        feedClient = new RecipeFeedClient(restTemplate, new RecipeFeedDecoder(new ObjectMapper()), retryRegistry,
+                circuitBreakerRegistry, RateLimiterRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(feedClient, "recipesUrl", "https://dummyjson.com/recipes");
+    }
+
+    @Test
+    void testFetchPage_Success() throws Exception {
+        server.expect(requestTo("https://dummyjson.com/recipes?limit=30&skip=60"))
+                .andRespond(withSuccess("{\"recipes\":[{\"id\":61,\"name\":\"Pizza\"}],\"total\":61,\"skip\":60,\"limit\":30}",
+                        MediaType.APPLICATION_JSON));
+
+        ExternalRecipePage page = feedClient.fetchPage(60, 30);
+
+        assertEquals(61, page.getTotal());
+        assertEquals(61L, page.getRecipes().get(0).getId());
+        server.verify();
+    }
+
+    @Test
+    void testFetchPage_UpstreamError() {
+        // Every attempt fails
+        server.expect(ExpectedCount.times(3), requestTo("https://dummyjson.com/recipes?limit=30&skip=0")).andRespond(withServerError());
+
+        CustomException ex = assertThrows(CustomException.class, () -> feedClient.fetchPage(0, 30));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, ex.getStatus());
+        assertTrue(ex.getMessage().contains("Failed to fetch data"));
+        server.verify();
+    }
+
+    @Test
+    void testFetchPage_RetriesTransientError() throws Exception {
+        server.expect(requestTo("https://dummyjson.com/recipes?limit=30&skip=60")).andRespond(withServerError());
+        server.expect(requestTo("https://dummyjson.com/recipes?limit=30&skip=60"))
+                .andRespond(withSuccess("{\"recipes\":[{\"id\":61,\"name\":\"Pizza\"}],\"total\":61,\"skip\":60,\"limit\":30}",
+                        MediaType.APPLICATION_JSON));
+
+        ExternalRecipePage page = feedClient.fetchPage(60, 30);
+
+        assertEquals(1, page.getRecipes().size());
+        server.verify();
+    }
+
+    @Test
+    void testFetchPage_ClientErrorNotRetried() {
+        server.expect(ExpectedCount.once(), requestTo("https://dummyjson.com/recipes?limit=30&skip=0"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        assertThrows(CustomException.class, () -> feedClient.fetchPage(0, 30));
+        server.verify();
+    }
+
+    @Test
+    void testFetchPage_MalformedPayloadNotRetried() {
+        server.expect(ExpectedCount.once(), requestTo("https://dummyjson.com/recipes?limit=30&skip=0"))
+                .andRespond(withSuccess("<html>Service busy</html>", MediaType.APPLICATION_JSON));
+
+        CustomException ex = assertThrows(CustomException.class, () -> feedClient.fetchPage(0, 30));
+
+        assertTrue(ex.getMessage().contains("Malformed recipes page"));
+        server.verify();
+        // Not held against the upstream's health either
+        assertEquals(0, circuitBreakerRegistry.circuitBreaker(RecipeFeedClient.UPSTREAM).getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void testFetchPage_NoRecipesInResponse() {
+        server.expect(requestTo("https://dummyjson.com/recipes?limit=30&skip=0"))
+                .andRespond(withSuccess("{\"message\":\"unavailable\"}", MediaType.APPLICATION_JSON));
+
+        CustomException ex = assertThrows(CustomException.class, () -> feedClient.fetchPage(0, 30));
+
+        assertEquals("Failed to fetch data from external API", ex.getMessage());
+    }
+}
@@ -0,0 +1,83 @@
+package com.publicis.recipes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicis.recipes.dto.ExternalRecipePage;
+import com.publicis.recipes.model.Recipe;
+
+class RecipeFeedDecoderTest {
+
+    private final RecipeFeedDecoder decoder = new RecipeFeedDecoder(new ObjectMapper());
+
+    @Test
+    void testDecode_MapsRecipesAndPaging() throws Exception {
+        ExternalRecipePage page = decode("""
+                {"recipes":[{"id":1,"name":"Pizza","cuisine":"Italian","image":"pizza.png",
+                  "prepTimeMinutes":10,"cookTimeMinutes":20,"caloriesPerServing":300,"servings":2,
+                  "difficulty":"Easy","rating":4.5,"reviewCount":10,"userId":7,
+                  "ingredients":["Flour","Cheese"],"instructions":["Bake it"],"tags":["Dinner"],
+                  "mealType":["Lunch"],"unknown":{"nested":[1,2,3]}}],
+                 "total":50,"skip":0,"limit":30}
+                """);
+
+        assertEquals(50, page.getTotal());
+        assertEquals(30, page.getLimit());
+        assertEquals(1, page.getRecipes().size());
+
+        Recipe recipe = page.getRecipes().get(0);
+        assertEquals(1L, recipe.getId());
+        assertEquals("Pizza", recipe.getName());
+        assertEquals(300, recipe.getCaloriesPerServing());
+        assertEquals(4.5, recipe.getRating());
+        assertEquals(7L, recipe.getUserId());
+        assertEquals(List.of("Flour", "Cheese"), recipe.getIngredients());
+        assertEquals(List.of("Lunch"), recipe.getMealType());
+        assertNotNull(recipe.getContentHash());
+    }
+
+    @Test
+    void testDecode_SkipsMalformedRecordsOnly() throws Exception {
+        ExternalRecipePage page = decode("""
+                {"recipes":[
+                  {"id":1,"name":"Pizza","tags":[{"oops":true}],"rating":4.5},
+                  {"id":2,"name":"Pasta","rating":4.0},
+                  {"name":"No id"},
+                  "not a recipe",
+                  {"id":3,"name":"Soup","rating":"high"},
+                  {"id":4,"name":"Salad"}
+                ],"total":6}
+                """);
+
+        assertEquals(List.of(2L, 4L), page.getRecipes().stream().map(Recipe::getId).toList());
+        assertEquals(4, page.getMalformedRecords());
+    }
+
+    @Test
+    void testDecode_MissingRecipesArray() throws Exception {
+        ExternalRecipePage page = decode("{\"message\":\"rate limited\"}");
+
+        assertNull(page.getRecipes());
+    }
+
+    @Test
+    void testDecode_InvalidJsonFailsPage() {
+        assertThrows(MalformedFeedException.class, () -> decode("{\"recipes\":[{\"id\":1,"));
+        assertThrows(MalformedFeedException.class, () -> decode("<html>Service busy</html>"));
+        assertThrows(MalformedFeedException.class, () -> decode("{\"recipes\":{\"id\":1}}"));
+    }
+
+    private ExternalRecipePage decode(String json) throws IOException {
+        return decoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
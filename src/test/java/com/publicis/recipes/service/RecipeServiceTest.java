@@ -1,28 +1,40 @@
 package com.publicis.recipes.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.LongStream;
 
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryWhereStep;
@@ -31,17 +43,31 @@ import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.publicis.recipes.config.CacheConfig;
+import com.publicis.recipes.dto.ExternalRecipePage;
+import com.publicis.recipes.dto.IngredientSearchRequest;
+import com.publicis.recipes.dto.RecipeBatchDTO;
 import com.publicis.recipes.dto.RecipeDTO;
+import com.publicis.recipes.dto.RecipeSearchRequest;
+import com.publicis.recipes.dto.RecipeSummaryDTO;
+import com.publicis.recipes.dto.SearchPage;
 import com.publicis.recipes.exception.CustomException;
 import com.publicis.recipes.model.Recipe;
+import com.publicis.recipes.model.IngestCheckpoint;
+import com.publicis.recipes.repository.IngestCheckpointRepository;
 import com.publicis.recipes.repository.RecipeRepository;
 
 import jakarta.persistence.EntityManager;
@@ -52,11 +78,32 @@ class RecipeServiceTest {
     @Mock
     private RecipeRepository recipeRepository;
 
+    @Mock
+    private IngestCheckpointRepository checkpointRepository;
+
     @Mock
     private EntityManager entityManager;
 
     @Mock
-    private RestTemplate restTemplate;
+    private RecipeFeedClient feedClient;
+
+    @Mock
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
+    @Mock
+    private CatalogSnapshot catalogSnapshot;
+
+    @Mock
+    private RecipeSuggester recipeSuggester;
+
+    @Mock
+    private SearchQueryStrategy queryStrategy;
+
+    @Mock
+    private CacheManager cacheManager;
 
     @InjectMocks
     private RecipeService recipeService;
@@ -89,32 +136,7 @@ class RecipeServiceTest {
 
     @Test
     void testLoadRecipesFromExternal_Success() throws Exception {
-    	ReflectionTestUtils.setField(recipeService, "recipesUrl", "https://dummyjson.com/recipes");
-    	
-    	Map<String, Object> recipeData = Map.ofEntries(
-    	        Map.entry("id", 1),
-    	        Map.entry("name", "Pizza"),
-    	        Map.entry("cuisine", "Italian"),
-    	        Map.entry("image", "pizza.png"),
-    	        Map.entry("prepTimeMinutes", 10),
-    	        Map.entry("cookTimeMinutes", 20),
-    	        Map.entry("caloriesPerServing", 300),
-    	        Map.entry("servings", 2),
-    	        Map.entry("difficulty", "Easy"),
-    	        Map.entry("rating", 4.5),
-    	        Map.entry("reviewCount", 10),
-    	        Map.entry("userId", 1),
-    	        Map.entry("ingredients", List.of("Flour")),
-    	        Map.entry("instructions", List.of("Bake it")),
-    	        Map.entry("tags", List.of("Dinner")),
-    	        Map.entry("mealType", List.of("Lunch"))
-    	);
-
-    	Map<String, Object> apiResponse = new HashMap<>();
-    	apiResponse.put("recipes", List.of(recipeData));
-
-        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenReturn(apiResponse);
-        when(recipeRepository.saveAll(anyList())).thenReturn(Collections.emptyList());
+        when(feedClient.fetchPage(0, 30)).thenReturn(new ExternalRecipePage(List.of(recipe), 1, 0, 30));
 
         // Mock Hibernate Search massIndexer
         SearchSession mockSearchSession = mock(SearchSession.class);
@@ -126,33 +148,330 @@ class RecipeServiceTest {
         try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
             mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
 
-            String result = recipeService.loadRecipesFromExternal();
+            LoadProgress progress = new LoadProgress();
+            String result = recipeService.loadRecipesFromExternal(progress);
 
             assertTrue(result.contains("Recipes loaded successfully"));
-            verify(recipeRepository, atLeastOnce()).saveAll(anyList());
+            verify(recipeBatchWriter).saveWithoutIndexing(List.of(recipe));
+            verify(mockMassIndexer).monitor(any()); // index progress is reported to the load job
             verify(mockMassIndexer).startAndWait(); // confirm index rebuilding
+            assertEquals(LoadPhase.INDEXING, progress.getPhase());
+            assertEquals(1, progress.getRecipesWritten());
+            verify(catalogSnapshot).save();
+            // Suggestions are rebuilt before cached searches of the old catalog become unreachable
+            InOrder inOrder = inOrder(recipeSuggester, catalogVersion);
+            inOrder.verify(recipeSuggester).rebuild();
+            inOrder.verify(catalogVersion).bump();
+        }
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_StreamingPersistsEachPage() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.STREAMING);
+        ReflectionTestUtils.setField(recipeService, "pageSize", 1);
+
+        when(feedClient.fetchPage(anyInt(), eq(1))).thenReturn(
+                new ExternalRecipePage(List.of(recipe), 0, 0, 1),
+                new ExternalRecipePage(List.of(recipe), 0, 1, 1),
+                new ExternalRecipePage(List.of(), 0, 2, 1));
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            String result = recipeService.loadRecipesFromExternal(new LoadProgress());
+
+            assertEquals("Recipes loaded successfully: 2", result);
+            verify(recipeBatchWriter, times(2)).save(anyList());
+            mockedSearch.verifyNoInteractions(); // no MassIndexer run in streaming mode
+        }
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_MalformedRecordDoesNotEndFeed() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.STREAMING);
+        ReflectionTestUtils.setField(recipeService, "pageSize", 3);
+
+        // A full page whose middle record the decoder drops, then the short last page
+        ExternalRecipePage fullPage = decode("""
+                {"recipes":[{"id":1,"name":"Pizza"},{"id":"two","name":"Broken"},{"id":3,"name":"Pasta"}],"total":4,"skip":0,"limit":3}""");
+        ExternalRecipePage lastPage = decode("""
+                {"recipes":[{"id":4,"name":"Tacos"}],"total":4,"skip":3,"limit":3}""");
+        when(feedClient.fetchPage(0, 3)).thenReturn(fullPage);
+        when(feedClient.fetchPage(3, 3)).thenReturn(lastPage);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            String result = recipeService.loadRecipesFromExternal(new LoadProgress());
+
+            assertEquals("Recipes loaded successfully: 3", result);
+            verify(recipeBatchWriter).save(argThat(recipes -> recipes.size() == 2));
+            verify(recipeBatchWriter).save(argThat(recipes -> recipes.size() == 1 && recipes.get(0).getId() == 4L));
+            verify(feedClient, never()).fetchPage(6, 3);
+        }
+    }
+
+    private static ExternalRecipePage decode(String json) throws IOException {
+        return new RecipeFeedDecoder(new ObjectMapper()).decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_ConcurrentFetchUsesUpstreamTotal() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "pageSize", 1);
+        ReflectionTestUtils.setField(recipeService, "fetchConcurrency", 3);
+        ReflectionTestUtils.setField(recipeService, "fetchExecutor", new SimpleAsyncTaskExecutor());
+
+        when(feedClient.fetchPage(anyInt(), eq(1))).thenAnswer(invocation ->
+                new ExternalRecipePage(List.of(recipe), 4, invocation.getArgument(0), 1));
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        var mockMassIndexer = mock(org.hibernate.search.mapper.orm.massindexing.MassIndexer.class);
+        when(mockSearchSession.massIndexer()).thenReturn(mockMassIndexer);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+
+            String result = recipeService.loadRecipesFromExternal(new LoadProgress());
+
+            assertEquals("Recipes loaded successfully: 4", result);
+            for (int skip = 0; skip < 4; skip++) {
+                verify(feedClient).fetchPage(skip, 1);
+            }
+            verify(recipeBatchWriter).saveWithoutIndexing(argThat(recipes -> recipes.size() == 4));
+        }
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_DeltaSkipsUnchangedAndDeletesMissing() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.DELTA);
+        recipe.setContentHash(RecipeContentHash.of(recipe));
+
+        RecipeRepository.ContentHashView storedHash = mock(RecipeRepository.ContentHashView.class);
+        when(storedHash.getId()).thenReturn(1L);
+        when(storedHash.getContentHash()).thenReturn(RecipeContentHash.of(recipe));
+
+        when(feedClient.fetchPage(0, 30)).thenReturn(new ExternalRecipePage(List.of(recipe), 1, 0, 30));
+        when(recipeRepository.findContentHashesByIdIn(List.of(1L))).thenReturn(List.of(storedHash));
+        when(recipeRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            String result = recipeService.loadRecipesFromExternal(new LoadProgress());
+
+            assertEquals("Recipes loaded successfully: 1", result);
+            verify(recipeBatchWriter, never()).save(anyList());
+            verify(recipeRepository).deleteAllById(List.of(2L));
+            verify(catalogVersion).bump();
+            mockedSearch.verifyNoInteractions(); // no MassIndexer run in delta mode
+        }
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_DeltaKeepsRecipesOnIncompleteFetch() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.DELTA);
+        ReflectionTestUtils.setField(recipeService, "pageSize", 3);
+
+        // Recipe 2 is malformed this time round; it must not count as deleted upstream
+        ExternalRecipePage page = decode("""
+                {"recipes":[{"id":1,"name":"Pizza"},{"id":2,"name":null}],"total":2,"skip":0,"limit":3}""");
+        when(feedClient.fetchPage(0, 3)).thenReturn(page);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            recipeService.loadRecipesFromExternal(new LoadProgress());
+
+            verify(recipeBatchWriter).save(argThat(recipes -> recipes.size() == 1));
+            verify(recipeRepository, never()).findAllIds();
+            verify(recipeRepository, never()).deleteAllById(anyList());
+        }
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_DeltaKeepsRecipesBelowUpstreamTotal() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.DELTA);
+        recipe.setContentHash(RecipeContentHash.of(recipe));
+
+        // Upstream announced more recipes than it handed out
+        when(feedClient.fetchPage(0, 30)).thenReturn(new ExternalRecipePage(List.of(recipe), 5, 0, 30));
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            recipeService.loadRecipesFromExternal(new LoadProgress());
+
+            verify(recipeRepository, never()).deleteAllById(anyList());
         }
     }
 
     @Test
-    void testLoadRecipesFromExternal_Failure() {
-        // Inject recipesUrl so URI build doesn't crash first
-        ReflectionTestUtils.setField(recipeService, "recipesUrl", "https://dummyjson.com/recipes");
+    void testLoadRecipesFromExternal_ShadowSwapsInOneStep() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.SHADOW);
+        recipe.setContentHash(RecipeContentHash.of(recipe));
+        Recipe changed = new Recipe();
+        changed.setId(3L);
+        changed.setName("Tacos");
+        changed.setContentHash("new-hash");
+
+        RecipeRepository.ContentHashView unchangedHash = mock(RecipeRepository.ContentHashView.class);
+        when(unchangedHash.getId()).thenReturn(1L);
+        when(unchangedHash.getContentHash()).thenReturn(recipe.getContentHash());
+        RecipeRepository.ContentHashView staleHash = mock(RecipeRepository.ContentHashView.class);
+        when(staleHash.getId()).thenReturn(2L);
+        RecipeRepository.ContentHashView changedHash = mock(RecipeRepository.ContentHashView.class);
+        when(changedHash.getId()).thenReturn(3L);
+        when(changedHash.getContentHash()).thenReturn("old-hash");
+
+        when(feedClient.fetchPage(0, 30)).thenReturn(new ExternalRecipePage(List.of(recipe, changed), 2, 0, 30));
+        when(recipeRepository.findAllContentHashes()).thenReturn(List.of(unchangedHash, staleHash, changedHash));
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            LoadProgress progress = new LoadProgress();
+            recipeService.loadRecipesFromExternal(progress);
+
+            // Only the differences, all in one write
+            verify(recipeBatchWriter).replace(List.of(changed), List.of(2L));
+            verify(recipeBatchWriter, never()).save(anyList());
+            verify(recipeBatchWriter, never()).saveWithoutIndexing(anyList());
+            assertEquals(1, progress.getRecipesWritten());
+            assertEquals(1, progress.getRecipesUnchanged());
+            assertEquals(1, progress.getRecipesDeleted());
+            verify(catalogVersion).bump();
+            mockedSearch.verifyNoInteractions(); // no MassIndexer purge and rebuild
+        }
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_ShadowKeepsRecipesOnIncompleteFetch() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.SHADOW);
+        ReflectionTestUtils.setField(recipeService, "pageSize", 3);
+
+        // Recipe 2 is malformed this time round and recipe 3 was never reached
+        ExternalRecipePage page = decode("""
+                {"recipes":[{"id":1,"name":"Pizza"},{"id":2,"name":7}],"total":3,"skip":0,"limit":3}""");
+        when(feedClient.fetchPage(0, 3)).thenReturn(page);
+        RecipeRepository.ContentHashView changedHash = mock(RecipeRepository.ContentHashView.class);
+        when(changedHash.getId()).thenReturn(1L);
+        when(changedHash.getContentHash()).thenReturn("old-hash");
+        RecipeRepository.ContentHashView malformedHash = mock(RecipeRepository.ContentHashView.class);
+        when(malformedHash.getId()).thenReturn(2L);
+        RecipeRepository.ContentHashView unreachedHash = mock(RecipeRepository.ContentHashView.class);
+        when(unreachedHash.getId()).thenReturn(3L);
+        when(recipeRepository.findAllContentHashes()).thenReturn(List.of(changedHash, malformedHash, unreachedHash));
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            LoadProgress progress = new LoadProgress();
+            recipeService.loadRecipesFromExternal(progress);
+
+            // The changed recipe is still written, but nothing is deleted
+            verify(recipeBatchWriter).replace(argThat(recipes -> recipes.size() == 1 && recipes.get(0).getId() == 1L), eq(List.of()));
+            assertEquals(0, progress.getRecipesDeleted());
+        }
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_ShadowKeepsCatalogOnEmptyUpstream() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.SHADOW);
+        when(feedClient.fetchPage(0, 30)).thenReturn(new ExternalRecipePage(List.of(), 0, 0, 30));
+
+        CustomException ex = assertThrows(CustomException.class, () -> recipeService.loadRecipesFromExternal(new LoadProgress()));
+
+        assertTrue(ex.getMessage().contains("keeping the current catalog"));
+        verify(recipeBatchWriter, never()).replace(anyList(), anyList());
+        verify(catalogVersion, never()).bump();
+    }
 
+    @Test
+    void testLoadRecipesFromExternal_Failure() throws Exception {
         // Simulate network failure
-        when(restTemplate.getForObject(anyString(), eq(Map.class)))
-                .thenThrow(new RuntimeException("Connection error"));
+        when(feedClient.fetchPage(anyInt(), anyInt()))
+                .thenThrow(new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API, Error: Connection error"));
 
-        CustomException ex = assertThrows(CustomException.class, () -> recipeService.loadRecipesFromExternal());
+        CustomException ex = assertThrows(CustomException.class, () -> recipeService.loadRecipesFromExternal(new LoadProgress()));
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, ex.getStatus());
         assertTrue(ex.getMessage().contains("Failed to fetch data"));
+        verify(recipeBatchWriter, never()).saveWithoutIndexing(anyList());
+        verify(catalogVersion, never()).bump();
+        verify(catalogSnapshot, never()).save();
+        verify(recipeSuggester, never()).rebuild();
+        verify(cacheManager, never()).getCache(anyString());
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_FailureAfterCommitClearsCaches() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.STREAMING);
+        ReflectionTestUtils.setField(recipeService, "pageSize", 1);
+        Cache recipesCache = mock(Cache.class);
+        Cache searchCache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.RECIPES_CACHE)).thenReturn(recipesCache);
+        when(cacheManager.getCache(CacheConfig.SEARCH_CACHE)).thenReturn(searchCache);
+
+        when(feedClient.fetchPage(0, 1)).thenReturn(new ExternalRecipePage(List.of(recipe), 0, 0, 1));
+        when(feedClient.fetchPage(1, 1))
+                .thenThrow(new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API"));
+
+        assertThrows(CustomException.class, () -> recipeService.loadRecipesFromExternal(new LoadProgress()));
+
+        // Page 0 is committed, so cached DTOs and search results must not outlive the failed load
+        verify(recipesCache).clear();
+        verify(searchCache).clear();
+        verify(catalogVersion).bump();
+        verify(recipeSuggester).rebuild();
+        verify(catalogSnapshot, never()).save();
     }
     
     @Test
-    void testLoadRecipesFallback() {
-        String msg = recipeService.loadRecipesFallback(new RuntimeException("Timeout"));
-        assertTrue(msg.contains("Failed to load recipes"));
+    void testLoadRecipesFromExternal_StreamingFailureKeepsCheckpoint() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.STREAMING);
+        ReflectionTestUtils.setField(recipeService, "pageSize", 1);
+
+        when(feedClient.fetchPage(0, 1)).thenReturn(new ExternalRecipePage(List.of(recipe), 0, 0, 1));
+        when(feedClient.fetchPage(1, 1)).thenReturn(new ExternalRecipePage(List.of(recipe), 0, 1, 1));
+        when(feedClient.fetchPage(2, 1))
+                .thenThrow(new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch data from external API"));
+
+        assertThrows(CustomException.class, () -> recipeService.loadRecipesFromExternal(new LoadProgress()));
+
+        // One checkpoint per committed page, the last one pointing at the page that failed
+        ArgumentCaptor<IngestCheckpoint> checkpoints = ArgumentCaptor.forClass(IngestCheckpoint.class);
+        verify(checkpointRepository, times(2)).save(checkpoints.capture());
+        assertEquals(2, checkpoints.getValue().getNextSkip());
+        assertEquals("STREAMING", checkpoints.getValue().getMode());
+        verify(checkpointRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_ResumesFromCheckpoint() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.DELTA);
+        ReflectionTestUtils.setField(recipeService, "pageSize", 1);
+        recipe.setContentHash(RecipeContentHash.of(recipe));
+
+        when(checkpointRepository.findById(IngestCheckpoint.RECIPES_FEED))
+                .thenReturn(Optional.of(new IngestCheckpoint(IngestCheckpoint.RECIPES_FEED, "DELTA", 1, 2)));
+        when(feedClient.fetchPage(2, 1)).thenReturn(new ExternalRecipePage(List.of(recipe), 3, 2, 1));
+        when(feedClient.fetchPage(3, 1)).thenReturn(new ExternalRecipePage(List.of(), 3, 3, 1));
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            LoadProgress progress = new LoadProgress();
+            recipeService.loadRecipesFromExternal(progress);
+
+            verify(feedClient, never()).fetchPage(0, 1);
+            assertEquals(2, progress.getResumedAt());
+            assertEquals(1, progress.getRecipesWritten());
+            // Pages 0 and 1 were not seen by this run, so nothing may be deleted as missing upstream
+            verify(recipeRepository, never()).findAllIds();
+            verify(recipeRepository, never()).deleteAllById(anyList());
+            verify(checkpointRepository).deleteById(IngestCheckpoint.RECIPES_FEED);
+        }
+    }
+
+    @Test
+    void testLoadRecipesFromExternal_IgnoresCheckpointOfOtherPageSize() throws Exception {
+        ReflectionTestUtils.setField(recipeService, "ingestMode", IngestMode.STREAMING);
+
+        when(checkpointRepository.findById(IngestCheckpoint.RECIPES_FEED))
+                .thenReturn(Optional.of(new IngestCheckpoint(IngestCheckpoint.RECIPES_FEED, "STREAMING", 50, 100)));
+        when(feedClient.fetchPage(0, 30)).thenReturn(new ExternalRecipePage(List.of(recipe), 1, 0, 30));
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            LoadProgress progress = new LoadProgress();
+            recipeService.loadRecipesFromExternal(progress);
+
+            assertEquals(0, progress.getResumedAt());
+            verify(recipeBatchWriter).save(List.of(recipe));
+        }
     }
     
     @Test
@@ -174,12 +493,51 @@ class RecipeServiceTest {
         assertEquals(HttpStatus.NOT_FOUND, ex.getStatus());
         assertTrue(ex.getMessage().contains("Recipe not found"));
     }
+
+    @Test
+    void testGetContentHash_CacheBeforeDb() {
+        Cache recipesCache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.RECIPES_CACHE)).thenReturn(recipesCache);
+        recipeDTO.setContentHash("cached");
+        when(recipesCache.get(1L, RecipeDTO.class)).thenReturn(recipeDTO);
+        when(recipeRepository.findContentHashById(2L)).thenReturn("stored");
+
+        assertEquals("cached", recipeService.getContentHash(1L));
+        assertEquals("stored", recipeService.getContentHash(2L));
+        verify(recipeRepository, never()).findContentHashById(1L);
+        verify(recipeRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testGetByIds_RequestOrderAndMissing() throws Exception {
+        Recipe other = new Recipe();
+        other.setId(5L);
+        other.setName("Tacos");
+        // The repository returns rows in its own order
+        when(recipeRepository.findAllById(argThat((Iterable<Long> ids) -> ids.toString().equals("[5, 99, 1]"))))
+                .thenReturn(List.of(recipe, other));
+
+        RecipeBatchDTO batch = recipeService.getByIds(List.of(5L, 99L, 1L, 5L));
+
+        assertEquals(List.of("Tacos", "Pizza"), batch.getRecipes().stream().map(RecipeDTO::getName).toList());
+        assertEquals(List.of(99L), batch.getMissingIds());
+    }
+
+    @Test
+    void testGetByIds_TooMany() {
+        List<Long> ids = LongStream.rangeClosed(1, Recipe.COLLECTION_BATCH_SIZE + 1).boxed().toList();
+
+        CustomException ex = assertThrows(CustomException.class, () -> recipeService.getByIds(ids));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+        verify(recipeRepository, never()).findAllById(any());
+    }
     
     @SuppressWarnings({ "rawtypes", "unchecked" })
 	@Test
-    void testSearchRecipes_Success() {
+    void testSearchRecipes_Success() throws CustomException {
     	// Fake data
         List<Recipe> fakeRecipes = List.of(recipe);
+        SearchResult<Recipe> fakeResult = searchResult(fakeRecipes, 41, true);
 
         // Mocks
         SearchSession mockSearchSession = mock(SearchSession.class);
@@ -191,20 +549,342 @@ class RecipeServiceTest {
             mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
             when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
             when(mockSelectStep.where(any(Function.class))).thenReturn(mockFinalStep);
-            when(mockFinalStep.fetchHits(20)).thenReturn(fakeRecipes);
+            when(mockFinalStep.fetch(20, 20)).thenReturn(fakeResult);
 
-            // Execute
-            List<RecipeDTO> results = recipeService.searchRecipes("Pizza");
+            // Execute: second page of 20
+            RecipeSearchRequest request = new RecipeSearchRequest("Pizza");
+            request.setPage(1);
+            SearchPage<RecipeDTO> results = recipeService.searchRecipes(request);
 
             // Verify
-            assertEquals(1, results.size());
-            assertEquals("Pizza", results.get(0).getName());
+            assertEquals(1, results.getItems().size());
+            assertEquals("Pizza", results.getItems().get(0).getName());
+            assertEquals(41, results.getTotalHits());
+            assertTrue(results.isTotalHitsExact());
+            assertNull(results.getNextCursor()); // cursors are only issued in cursor mode
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchRecipes_FuzzyFallback() throws CustomException {
+        Recipe fuzzyMatch = new Recipe();
+        fuzzyMatch.setId(2L);
+        fuzzyMatch.setName("Margherita Pizza");
+        // Only the total of the exact result is looked at
+        SearchResult<Recipe> exactResult = mock(SearchResult.class);
+        SearchResultTotal exactTotal = mock(SearchResultTotal.class);
+        when(exactResult.total()).thenReturn(exactTotal);
+        when(exactTotal.hitCountLowerBound()).thenReturn(0L);
+        SearchResult<Recipe> fuzzyResult = searchResult(List.of(recipe, fuzzyMatch), 2, true);
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryOptionsStep mockFinalStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.where(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.fetch(0, 20)).thenReturn(exactResult, fuzzyResult);
+            when(queryStrategy.needsFuzzyFallback(0)).thenReturn(true);
+
+            SearchPage<RecipeDTO> results = recipeService.searchRecipes(new RecipeSearchRequest("piza"));
+
+            // The exact query found nothing, so it was repeated with fuzzy matching
+            verify(mockSelectStep, times(2)).where(any(Function.class));
+            assertEquals(2, results.getItems().size());
+            assertEquals(2, results.getTotalHits());
         }
     }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchRecipes_LowCountLimitDoesNotForceFuzzyFallback() throws CustomException {
+        SearchResult<Recipe> fakeResult = searchResult(List.of(recipe), 7, true);
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryOptionsStep mockFinalStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.where(any(Function.class))).thenReturn(mockFinalStep);
+            when(queryStrategy.getFuzzyMinExactHits()).thenReturn(5);
+            when(mockFinalStep.totalHitCountThreshold(5)).thenReturn(mockFinalStep);
+            when(mockFinalStep.fetch(0, 20)).thenReturn(fakeResult);
+
+            RecipeSearchRequest request = new RecipeSearchRequest("Pizza");
+            request.setCountLimit(2);
+            SearchPage<RecipeDTO> results = recipeService.searchRecipes(request);
+
+            // Counted far enough to see the exact query has plenty of hits
+            verify(mockFinalStep, never()).totalHitCountThreshold(2);
+            verify(queryStrategy).needsFuzzyFallback(7);
+            verify(mockSelectStep, times(1)).where(any(Function.class));
+            assertEquals(7, results.getTotalHits());
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchRecipes_PageOffsetOverflow() {
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryOptionsStep mockFinalStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.where(any(Function.class))).thenReturn(mockFinalStep);
+
+            RecipeSearchRequest request = new RecipeSearchRequest("Pizza");
+            request.setPage(Integer.MAX_VALUE / 20);
+
+            CustomException ex = assertThrows(CustomException.class, () -> recipeService.searchRecipes(request));
+            assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+            verify(mockFinalStep, never()).fetch(anyInt(), anyInt());
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchRecipes_CursorPage() throws CustomException {
+        SearchResult<Recipe> fakeResult = searchResult(List.of(recipe), 1000, false);
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryOptionsStep mockFinalStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.where(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.totalHitCountThreshold(100)).thenReturn(mockFinalStep);
+            when(mockFinalStep.sort(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.fetch(1)).thenReturn(fakeResult);
+
+            RecipeSearchRequest request = new RecipeSearchRequest("Pizza");
+            request.setSize(1);
+            request.setCountLimit(100);
+            request.setCursor(SearchCursor.encode(0L));
+            SearchPage<RecipeDTO> results = recipeService.searchRecipes(request);
+
+            verify(mockFinalStep, never()).fetch(anyInt(), anyInt());
+            assertEquals(1000, results.getTotalHits());
+            assertFalse(results.isTotalHitsExact());
+            // A full page: continue after the last hit's id
+            assertEquals(recipe.getId(), SearchCursor.decode(results.getNextCursor()));
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchRecipes_CursorWalkKeepsFuzzyFallback() throws CustomException {
+        SearchResult<Recipe> exactResult = mock(SearchResult.class);
+        SearchResultTotal exactTotal = mock(SearchResultTotal.class);
+        when(exactResult.total()).thenReturn(exactTotal);
+        when(exactTotal.hitCountLowerBound()).thenReturn(0L);
+        SearchResult<Recipe> fuzzyResult = searchResult(List.of(recipe), 5, true);
+        SearchResult<Recipe> lastPage = searchResult(List.of(recipe), 1, true);
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryOptionsStep mockFinalStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.where(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.totalHitCountThreshold(100)).thenReturn(mockFinalStep);
+            when(mockFinalStep.sort(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.fetch(1)).thenReturn(exactResult, fuzzyResult, lastPage);
+            when(queryStrategy.needsFuzzyFallback(0)).thenReturn(true);
+
+            RecipeSearchRequest request = new RecipeSearchRequest("piza");
+            request.setSize(1);
+            request.setCountLimit(100);
+            request.setCursor(SearchCursor.START);
+            SearchPage<RecipeDTO> firstPage = recipeService.searchRecipes(request);
+
+            // The first page fell back, and its cursor says so
+            assertTrue(SearchCursor.isFuzzy(firstPage.getNextCursor()));
+
+            clearInvocations(mockSelectStep, queryStrategy);
+            request.setCursor(firstPage.getNextCursor());
+            SearchPage<RecipeDTO> secondPage = recipeService.searchRecipes(request);
+
+            // The later page keeps fuzzy matching without looking at its own, cursor-filtered count
+            verify(mockSelectStep, times(1)).where(any(Function.class));
+            verify(queryStrategy, never()).needsFuzzyFallback(anyLong());
+            assertTrue(SearchCursor.isFuzzy(secondPage.getNextCursor()));
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchRecipes_ExactCursorPageDoesNotFallBack() throws CustomException {
+        // Only one hit is left after the cursor, which alone would ask for the fuzzy fallback
+        SearchResult<Recipe> fakeResult = searchResult(List.of(recipe), 1, true);
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryOptionsStep mockFinalStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.where(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.totalHitCountThreshold(100)).thenReturn(mockFinalStep);
+            when(mockFinalStep.sort(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.fetch(1)).thenReturn(fakeResult);
+
+            RecipeSearchRequest request = new RecipeSearchRequest("Pizza");
+            request.setSize(1);
+            request.setCountLimit(100);
+            request.setCursor(SearchCursor.encode(0L));
+            SearchPage<RecipeDTO> results = recipeService.searchRecipes(request);
+
+            verify(mockSelectStep, times(1)).where(any(Function.class));
+            verify(queryStrategy, never()).needsFuzzyFallback(anyLong());
+            assertFalse(SearchCursor.isFuzzy(results.getNextCursor()));
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchRecipeFacets() throws CustomException {
+        RecipeSummaryDTO summary = new RecipeSummaryDTO(1L, "Pizza", "Italian", "pizza.jpg", 4.5, "Easy");
+        SearchResult<RecipeSummaryDTO> fakeResult = searchResult(List.of(summary), 1, true);
+        when(fakeResult.aggregation(any(AggregationKey.class))).thenReturn(Map.of());
+        when(fakeResult.aggregation(RecipeFacet.CUISINE.getAggregationKey())).thenReturn(Map.of("Italian", 1L));
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryWhereStep mockWhereStep = mock(SearchQueryWhereStep.class);
+        SearchQueryOptionsStep mockOptionsStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.select(any(Function.class))).thenReturn(mockWhereStep);
+            when(mockWhereStep.where(any(Function.class))).thenReturn(mockOptionsStep);
+            when(mockOptionsStep.fetch(0, 20)).thenReturn(fakeResult);
+
+            SearchPage<RecipeSummaryDTO> results = recipeService.searchRecipeFacets(new RecipeSearchRequest());
+
+            // One aggregation per facet, all in the same query
+            verify(mockOptionsStep, times(RecipeFacet.values().length)).aggregation(any(AggregationKey.class), any(Function.class));
+            assertEquals(List.of(summary), results.getItems());
+            assertEquals(List.of("cuisine", "difficulty", "tags", "mealType"), List.copyOf(results.getFacets().keySet()));
+            assertEquals(Map.of("Italian", 1L), results.getFacets().get("cuisine"));
+        }
+    }
+
+    @Test
+    void testSearchRecipes_InvalidCursor() {
+        RecipeSearchRequest request = new RecipeSearchRequest("Pizza");
+        request.setCursor("not-a-cursor");
+
+        CustomException ex = assertThrows(CustomException.class, () -> recipeService.searchRecipes(request));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchRecipes_SortedByRating() throws CustomException {
+        SearchResult<Recipe> fakeResult = searchResult(List.of(recipe), 1, true);
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryOptionsStep mockFinalStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.where(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.sort(any(Function.class))).thenReturn(mockFinalStep);
+            when(mockFinalStep.fetch(0, 20)).thenReturn(fakeResult);
+
+            RecipeSearchRequest request = new RecipeSearchRequest();
+            request.setMaxCaloriesPerServing(500);
+            request.setSort(List.of("-rating"));
+            SearchPage<RecipeDTO> results = recipeService.searchRecipes(request);
+
+            verify(mockFinalStep).sort(any(Function.class));
+            assertEquals(1, results.getItems().size());
+        }
+    }
+
+    @Test
+    void testSearchRecipes_InvalidSort() {
+        RecipeSearchRequest request = new RecipeSearchRequest("Pizza");
+        request.setSort(List.of("-name"));
+
+        CustomException ex = assertThrows(CustomException.class, () -> recipeService.searchRecipes(request));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
+
+    @Test
+    void testSearchRecipes_CursorWithSort() {
+        RecipeSearchRequest request = new RecipeSearchRequest("Pizza");
+        request.setCursor(SearchCursor.START);
+        request.setSort(List.of("rating"));
+
+        CustomException ex = assertThrows(CustomException.class, () -> recipeService.searchRecipes(request));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+	@Test
+    void testSearchByIngredients() throws CustomException {
+        RecipeSummaryDTO summary = new RecipeSummaryDTO(1L, "Pizza", "Italian", "pizza.jpg", 4.5, "Easy");
+        summary.setMatchedIngredients(2);
+        SearchResult<RecipeSummaryDTO> fakeResult = searchResult(List.of(summary), 1, true);
+
+        SearchSession mockSearchSession = mock(SearchSession.class);
+        SearchQuerySelectStep mockSelectStep = mock(SearchQuerySelectStep.class);
+        SearchQueryWhereStep mockWhereStep = mock(SearchQueryWhereStep.class);
+        SearchQueryOptionsStep mockOptionsStep = mock(SearchQueryOptionsStep.class);
+
+        try (MockedStatic<Search> mockedSearch = mockStatic(Search.class)) {
+            mockedSearch.when(() -> Search.session(entityManager)).thenReturn(mockSearchSession);
+            when(mockSearchSession.search(Recipe.class)).thenReturn(mockSelectStep);
+            when(mockSelectStep.select(any(Function.class))).thenReturn(mockWhereStep);
+            when(mockWhereStep.where(any(Function.class))).thenReturn(mockOptionsStep);
+            when(mockOptionsStep.sort(any(Function.class))).thenReturn(mockOptionsStep);
+            when(mockOptionsStep.fetch(0, 20)).thenReturn(fakeResult);
+
+            SearchPage<RecipeSummaryDTO> results = recipeService.searchByIngredients(
+                    new IngredientSearchRequest(List.of("Flour", " cheese ", "flour")));
+
+            verify(mockOptionsStep).sort(any(Function.class)); // coverage, then rating
+            assertEquals(2, results.getItems().get(0).getMatchedIngredients());
+        }
+    }
+
+    @Test
+    void testSearchByIngredients_Blank() {
+        CustomException ex = assertThrows(CustomException.class,
+                () -> recipeService.searchByIngredients(new IngredientSearchRequest(List.of(" ", ""))));
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <H> SearchResult<H> searchResult(List<H> hits, long total, boolean exact) {
+        SearchResult<H> result = mock(SearchResult.class);
+        SearchResultTotal resultTotal = mock(SearchResultTotal.class);
+        when(result.hits()).thenReturn(hits);
+        when(result.total()).thenReturn(resultTotal);
+        when(resultTotal.hitCountLowerBound()).thenReturn(total);
+        when(resultTotal.isHitCountExact()).thenReturn(exact);
+        return result;
+    }
     
     @SuppressWarnings({ "rawtypes", "unchecked" })
 	@Test
-    void testSearchRecipesHighlight_Success() {
+    void testSearchRecipesHighlight_Success() throws CustomException {
     	// Fake data setup
         Recipe recipe = new Recipe();
         recipe.setId(1L);
@@ -217,7 +897,7 @@ class RecipeServiceTest {
         hit.add(recipe);
         hit.add(nameHighlight);
         hit.add(cuisineHighlight);
-        List<List<?>> fakeResults = List.of(hit);
+        SearchResult<List<?>> fakeResult = searchResult(List.of(hit), 1, true);
 
         // Mock Hibernate Search chain
         SearchSession mockSearchSession = mock(SearchSession.class);
@@ -234,10 +914,10 @@ class RecipeServiceTest {
             when(mockSelectStep.select(any(Function.class))).thenReturn((SearchQueryWhereStep) mockWhereStep);
             when(mockWhereStep.where(any(Function.class))).thenReturn(mockOptionsStep);
             when(mockOptionsStep.highlighter(anyString(), any(Function.class))).thenReturn(mockOptionsStep);
-            when(mockOptionsStep.fetchHits(20)).thenReturn(fakeResults);
+            when(mockOptionsStep.fetch(0, 20)).thenReturn(fakeResult);
 
             // Execute
-            List<RecipeDTO> results = recipeService.searchRecipesHighlight("chicken");
+            List<RecipeDTO> results = recipeService.searchRecipesHighlight(new RecipeSearchRequest("chicken")).getItems();
 
             // Verify
             assertEquals(1, results.size());
@@ -0,0 +1,77 @@
+package com.publicis.recipes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
+import org.hibernate.search.engine.backend.metamodel.IndexFieldDescriptor;
+import org.hibernate.search.engine.backend.metamodel.IndexValueFieldDescriptor;
+import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SearchIndexVerifierTest {
+
+    @TempDir
+    private Path indexRoot;
+
+    private static IndexFieldDescriptor field(String path, Set<String> traits) {
+        IndexValueFieldTypeDescriptor type = mock(IndexValueFieldTypeDescriptor.class);
+        when(type.valueClass()).thenAnswer(invocation -> String.class);
+        when(type.traits()).thenReturn(traits);
+        when(type.analyzerName()).thenReturn(Optional.empty());
+        when(type.searchAnalyzerName()).thenReturn(Optional.empty());
+        when(type.normalizerName()).thenReturn(Optional.empty());
+
+        IndexValueFieldDescriptor field = mock(IndexValueFieldDescriptor.class);
+        when(field.absolutePath()).thenReturn(path);
+        when(field.isValueField()).thenReturn(true);
+        when(field.toValueField()).thenReturn(field);
+        when(field.type()).thenReturn(type);
+        return field;
+    }
+
+    private static IndexDescriptor index(IndexFieldDescriptor... fields) {
+        IndexDescriptor index = mock(IndexDescriptor.class);
+        when(index.staticFields()).thenReturn(new ArrayList<>(List.of(fields)));
+        return index;
+    }
+
+    @Test
+    void testMappingFingerprint_ChangesWithFieldsAndTraits() {
+        String current = SearchIndexVerifier.mappingFingerprint(index(
+                field("name", Set.of("predicate:match")), field("rating", Set.of("sort:field"))));
+
+        // Field order in the metamodel does not matter
+        assertEquals(current, SearchIndexVerifier.mappingFingerprint(index(
+                field("rating", Set.of("sort:field")), field("name", Set.of("predicate:match")))));
+        // An index from before a field was added, or made sortable/aggregable, does not match
+        assertNotEquals(current, SearchIndexVerifier.mappingFingerprint(index(
+                field("name", Set.of("predicate:match")))));
+        assertNotEquals(current, SearchIndexVerifier.mappingFingerprint(index(
+                field("name", Set.of("predicate:match")), field("rating", Set.of("predicate:range")))));
+    }
+
+    @Test
+    void testMappingMatches() throws IOException {
+        Path marker = indexRoot.resolve("Recipe.mapping");
+
+        assertFalse(SearchIndexVerifier.mappingMatches(marker, "abc"));
+
+        Files.writeString(marker, "abc");
+        assertTrue(SearchIndexVerifier.mappingMatches(marker, "abc"));
+        assertFalse(SearchIndexVerifier.mappingMatches(marker, "def"));
+    }
+}
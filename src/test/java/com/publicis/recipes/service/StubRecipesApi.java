@@ -0,0 +1,91 @@
+package com.publicis.recipes.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stand-in for the upstream recipes API on a loopback port. Every page holds one recipe whose id
+ * is {@code skip + 1}; the status and latency of the answers can be changed while it runs.
+ */
+class StubRecipesApi implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private volatile int status = 200;
+    private volatile Duration latency = Duration.ZERO;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    StubRecipesApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/recipes", this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://localhost:%d/recipes".formatted(server.getAddress().getPort());
+    }
+
+    void respondWith(int status) {
+        this.status = status;
+    }
+
+    void latency(Duration latency) {
+        this.latency = latency;
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(latency.toMillis());
+
+            String skip = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build().getQueryParams().getFirst("skip");
+            byte[] body = status == 200
+                    ? "{\"recipes\":[{\"id\":%d,\"name\":\"Recipe %1$d\"}],\"total\":100,\"skip\":%s,\"limit\":1}"
+                            .formatted(Long.parseLong(skip) + 1, skip).getBytes(StandardCharsets.UTF_8)
+                    : new byte[0];
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,86 @@
+package com.publicis.recipes.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.publicis.recipes.dto.SuggestionDTO;
+
+public class SuggestionIndexTest {
+
+    private final SuggestionIndex index = SuggestionIndex.builder()
+            .add("Chicken Curry", "recipe", 1L, 4.0)
+            .add("Chicken Alfredo Pasta", "recipe", 2L, 4.8)
+            .add("Chocolate Chip Cookies", "recipe", 3L, 3.5)
+            .add("Curry Chicken Curry", "recipe", 4L, 1.0)
+            .add("Crème Brûlée", "recipe", 5L, 4.2)
+            .add("Chinese", "cuisine", null, 9.0)
+            .build();
+
+    private static List<String> texts(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getText).toList();
+    }
+
+    @Test
+    void testPrefixRankedByWeight() {
+        assertEquals(List.of("Chinese", "Chicken Alfredo Pasta", "Chicken Curry"), texts(index.suggest("ch", 3)));
+        assertEquals(List.of("Chicken Alfredo Pasta", "Chicken Curry", "Curry Chicken Curry"), texts(index.suggest("chick", 10)));
+    }
+
+    @Test
+    void testMatchesAnyWordStartOnce() {
+        // "Curry Chicken Curry" has two words starting with "cur" but is suggested once
+        assertEquals(List.of("Chicken Curry", "Curry Chicken Curry"), texts(index.suggest("cur", 10)));
+        assertEquals(List.of("Chicken Curry", "Curry Chicken Curry"), texts(index.suggest("chicken  cu", 10)));
+        assertEquals(List.of("Chicken Alfredo Pasta"), texts(index.suggest("chicken a", 10)));
+    }
+
+    @Test
+    void testNormalizesCaseAndAccents() {
+        List<SuggestionDTO> suggestions = index.suggest("  BRULEE", 5);
+
+        assertEquals(1, suggestions.size());
+        assertEquals("Crème Brûlée", suggestions.get(0).getText());
+        assertEquals(5L, suggestions.get(0).getId());
+        assertNull(index.suggest("chin", 1).get(0).getId());
+    }
+
+    @Test
+    void testShortPrefixesMatchFullScan() {
+        SuggestionIndex.Builder precomputed = SuggestionIndex.builder().precomputedLimit(5);
+        // Nothing is ranked ahead, so every lookup scans its block
+        SuggestionIndex.Builder scanned = SuggestionIndex.builder().precomputedLimit(0);
+        String[] words = { "a", "ab", "abc", "b", "ba", "cab", "cb" };
+        for (int i = 0; i < 200; i++) {
+            String text = words[i % words.length] + " " + words[(i * 3) % words.length] + i;
+            double weight = (i * 37) % 11;
+            precomputed.add(text, "recipe", (long) i, weight);
+            scanned.add(text, "recipe", (long) i, weight);
+        }
+        // A one-letter key sorts right before the keys it is a prefix of
+        precomputed.add("A", "tag", null, 0.5);
+        scanned.add("A", "tag", null, 0.5);
+        SuggestionIndex fast = precomputed.build();
+        SuggestionIndex slow = scanned.build();
+
+        for (String prefix : List.of("a", "ab", "b", "ba", "c", "ca", "cb", "z", "a ")) {
+            for (int limit : List.of(1, 3, 5)) {
+                assertEquals(texts(slow.suggest(prefix, limit)), texts(fast.suggest(prefix, limit)), prefix + "/" + limit);
+            }
+        }
+        // Beyond the precomputed limit the block is scanned
+        assertEquals(texts(slow.suggest("a", 8)), texts(fast.suggest("a", 8)));
+        assertEquals(8, fast.suggest("a", 8).size());
+    }
+
+    @Test
+    void testNoMatches() {
+        assertTrue(index.suggest("pizza", 5).isEmpty());
+        assertTrue(index.suggest(" ", 5).isEmpty());
+        assertTrue(SuggestionIndex.EMPTY.suggest("c", 5).isEmpty());
+    }
+}